@@ -1,5 +1,20 @@
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 /**
  * Загальний клас BasicDataOperation координує роботу різних структур даних.
@@ -10,18 +25,52 @@ import java.time.format.DateTimeFormatter;
  */
 public class BasicDataOperation {
     static final String PATH_TO_DATA_FILE = "list/LocalDate.data";
+    static final String PATH_TO_SNAPSHOT_FILE = PATH_TO_DATA_FILE + ".snapshot";
+    static final String PATH_TO_SORTED_FILE = PATH_TO_DATA_FILE + ".sorted";
+
+    static final String CONCURRENT_OPTION = "--concurrent";
+    static final String PIPELINE_OPTION = "--pipeline";
+    static final String QUERIES_OPTION = "--queries";
+    static final String STDIN_SOURCE = "-";
 
     LocalDate localDateValueToSearch;
-    LocalDate[] dateArray;
+    PreparedDataset preparedDataset;
+    boolean concurrentMode;
+    boolean pipelineMode;
 
     private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
+    // Розмір порції рядків пакетного пошуку, яка виводиться одним викликом print
+    private static final int BATCH_OUTPUT_CHUNK = 1 << 16;
+    // Назви обробників у порядку запуску, якими позначаються їхні рядки у звіті
+    private static final List<String> PROCESSOR_NAMES = List.of("List", "Queue", "Set");
+    private static final String PROCESSOR_SEPARATOR = "\n" + "~".repeat(60) + "\n";
     private static final String USAGE_MESSAGE =
-            "Використання: java BasicDataOperation <дата>\n" +
+            "Використання: java BasicDataOperation <дата> [" + CONCURRENT_OPTION + "] [" + PIPELINE_OPTION + "]\n" +
+            "              java BasicDataOperation " + QUERIES_OPTION + " <файл|" + STDIN_SOURCE + ">\n" +
             "Приклад:\n" +
-            "  java BasicDataOperation \"2025-03-13\"";
+            "  java BasicDataOperation \"2025-03-13\"\n" +
+            "  java BasicDataOperation \"2025-03-13\" " + CONCURRENT_OPTION + "   (List, Queue і Set паралельно)\n" +
+            "  java BasicDataOperation \"2025-03-13\" " + PIPELINE_OPTION + "     (додатково конвеєр виробників і споживачів Queue)\n" +
+            "  java BasicDataOperation " + QUERIES_OPTION + " queries.txt      (пошук усіх дат з файлу)\n" +
+            "  java BasicDataOperation " + QUERIES_OPTION + " " + STDIN_SOURCE
+                    + "                (пошук дат зі стандартного введення)";
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        if (args.length == 2 && QUERIES_OPTION.equals(args[0])) {
+            String queriesSource = args[1];
+            if (!STDIN_SOURCE.equals(queriesSource) && !Files.isRegularFile(Paths.get(queriesSource))) {
+                System.out.println("Помилка: Файл запитів не знайдено: " + queriesSource);
+                return;
+            }
+            new BasicDataOperation().executeBatchQueries(queriesSource);
+            return;
+        }
+
+        Set<String> options = args.length > 1 ? new HashSet<>(Arrays.asList(args).subList(1, args.length)) : Set.of();
+        boolean validArguments = args.length >= 1
+                && options.size() == args.length - 1
+                && Set.of(CONCURRENT_OPTION, PIPELINE_OPTION).containsAll(options);
+        if (!validArguments) {
             System.out.println(USAGE_MESSAGE);
             return;
         }
@@ -37,6 +86,8 @@ public class BasicDataOperation {
         }
 
         BasicDataOperation coordinator = new BasicDataOperation();
+        coordinator.concurrentMode = options.contains(CONCURRENT_OPTION);
+        coordinator.pipelineMode = options.contains(PIPELINE_OPTION);
         coordinator.executeOperations(args);
     }
 
@@ -52,72 +103,275 @@ public class BasicDataOperation {
         // Конвертація в LocalDate
         localDateValueToSearch = LocalDate.parse(args[0], DateTimeFormatter.ISO_LOCAL_DATE);
 
-        // Завантаження масиву з файлу
-        dateArray = DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE);
+        // Завантаження колонки дат з бінарного знімка або з текстового файлу
+        DateColumn dateColumn = loadDateColumn();
+        if (dateColumn == null) {
+            System.out.println("❌ Не вдалося завантажити дані з файлу " + PATH_TO_DATA_FILE);
+            return;
+        }
+
+        // Одне спільне сортування та один запис відсортованих даних на весь запуск
+        preparedDataset = prepareDataset(dateColumn);
 
         runAllOperations();
 
+        // Звіт про тривалість операцій виводиться один раз після всіх вимірювань
+        PerformanceTracker.printReport(System.out);
+
         System.out.println(SEPARATOR);
         System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
         System.out.println(SEPARATOR);
     }
 
+    /**
+     * Пакетний режим: дані завантажуються і впорядковуються один раз, після чого всі дати
+     * з файлу або стандартного введення шукаються одним злиттям з впорядкованою колонкою.
+     * Результати виводяться в порядку запитів.
+     */
+    private void executeBatchQueries(String queriesSource) {
+        System.out.println(SEPARATOR);
+        System.out.println("🚀 РОЗПОЧАТО ПАКЕТНИЙ ПОШУК ДАТ LocalDate 🚀");
+        System.out.println("Джерело запитів: " + (STDIN_SOURCE.equals(queriesSource) ? "стандартне введення" : queriesSource));
+        System.out.println(SEPARATOR);
+
+        DateColumn dateColumn = loadDateColumn();
+        if (dateColumn == null) {
+            System.out.println("❌ Не вдалося завантажити дані з файлу " + PATH_TO_DATA_FILE);
+            return;
+        }
+        preparedDataset = prepareDataset(dateColumn);
+
+        long timeStart = System.nanoTime();
+        int[] queryDays = STDIN_SOURCE.equals(queriesSource)
+                ? DataFileHandler.loadEpochDaysFromStream(System.in)
+                : DataFileHandler.loadEpochDaysFromFile(queriesSource);
+        if (queryDays == null) {
+            System.out.println("Помилка: Не вдалося прочитати дати для пошуку з " + queriesSource);
+            return;
+        }
+        PerformanceTracker.recordOperationTime(timeStart, "читання дат для пакетного пошуку");
+
+        timeStart = System.nanoTime();
+        int[] positions = preparedDataset.getSortedColumn().searchIndex().mergeJoin(queryDays);
+        PerformanceTracker.recordOperationTime(timeStart, "пакетний пошук дат злиттям з впорядкованою колонкою");
+
+        printBatchResults(queryDays, positions);
+
+        PerformanceTracker.printReport(System.out);
+
+        System.out.println(SEPARATOR);
+        System.out.println("✅ ПАКЕТНИЙ ПОШУК ЗАВЕРШЕНО ✅");
+        System.out.println(SEPARATOR);
+    }
+
+    /**
+     * Виводить результат кожного запиту окремим рядком, а потім підсумок.
+     * System.out скидає буфер після кожного println, тому рядки збираються в порції
+     * і кожна порція виводиться одним print - у тому самому кодуванні, що й решта виводу.
+     */
+    private void printBatchResults(int[] queryDays, int[] positions) {
+        int foundCount = 0;
+        String lineSeparator = System.lineSeparator();
+        StringBuilder outputChunk = new StringBuilder(BATCH_OUTPUT_CHUNK + 64);
+        for (int i = 0; i < queryDays.length; i++) {
+            outputChunk.append(LocalDate.ofEpochDay(queryDays[i]));
+            if (positions[i] >= 0) {
+                foundCount++;
+                outputChunk.append(" - знайдено в позиції ").append(positions[i]);
+            } else {
+                outputChunk.append(" - не знайдено");
+            }
+            outputChunk.append(lineSeparator);
+            if (outputChunk.length() >= BATCH_OUTPUT_CHUNK) {
+                System.out.print(outputChunk);
+                outputChunk.setLength(0);
+            }
+        }
+        System.out.print(outputChunk);
+
+        System.out.println(SEPARATOR);
+        System.out.println("Знайдено " + foundCount + " з " + queryDays.length + " дат у наборі з "
+                + preparedDataset.size() + " дат.");
+    }
+
+    /**
+     * Завантажує дати з бінарного знімка, якщо він не старіший за текстовий файл.
+     * Інакше розбирає текстовий файл і зберігає знімок для наступних запусків.
+     * Порожня колонка для непорожнього файлу вважається помилкою: такий знімок не використовується
+     * і не записується, щоб невдале завантаження не закріпилося для наступних запусків.
+     *
+     * @return Колонка дат або null, якщо текстовий файл не вдалося завантажити
+     */
+    private DateColumn loadDateColumn() {
+        boolean sourceHasContent = DataFileHandler.hasContent(PATH_TO_DATA_FILE);
+
+        DateColumn loadedColumn = null;
+        if (DataFileHandler.isSnapshotUpToDate(PATH_TO_SNAPSHOT_FILE, PATH_TO_DATA_FILE)) {
+            loadedColumn = DataFileHandler.loadSnapshotFromFile(PATH_TO_SNAPSHOT_FILE);
+            if (loadedColumn != null && loadedColumn.size() == 0 && sourceHasContent) {
+                loadedColumn = null;
+            }
+        }
+
+        if (loadedColumn == null) {
+            int[] epochDays = DataFileHandler.loadEpochDaysFromFileParallel(PATH_TO_DATA_FILE);
+            if (epochDays == null) {
+                return null;
+            }
+            loadedColumn = DateColumn.fromEpochDays(epochDays);
+            if (loadedColumn.size() > 0 || !sourceHasContent) {
+                DataFileHandler.writeSnapshotToFile(loadedColumn, PATH_TO_SNAPSHOT_FILE);
+            }
+        }
+        return loadedColumn;
+    }
+
+    /**
+     * Упорядковує дані один раз для всіх обробників і зберігає їх до файлу .sorted.
+     */
+    private PreparedDataset prepareDataset(DateColumn dateColumn) {
+        long timeStart = System.nanoTime();
+
+        PreparedDataset dataset = PreparedDataset.prepare(dateColumn);
+
+        PerformanceTracker.recordOperationTime(timeStart, "спільне упорядкування масиву дати i часу");
+
+        if (dataset.isAlreadySorted()) {
+            System.out.println("Дані вже впорядковані, сортування пропущено.");
+        }
+
+        DataFileHandler.writeColumnToFile(dataset.getSortedColumn(), PATH_TO_SORTED_FILE);
+        return dataset;
+    }
+
     /** Запускає операції з колекцією List. */
-    private void runListOperations() {
-        System.out.println("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
-        System.out.println("-".repeat(50));
+    private void runListOperations(PrintStream out) {
+        out.println("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
+        out.println("-".repeat(50));
 
         try {
             BasicDataOperationUsingList listProcessor =
-                    new BasicDataOperationUsingList(localDateValueToSearch, dateArray);
+                    new BasicDataOperationUsingList(localDateValueToSearch, preparedDataset, out);
             listProcessor.executeDataOperations();
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з List: " + e.getMessage());
-            e.printStackTrace();
+            out.println("❌ Помилка при роботі з List: " + e.getMessage());
+            e.printStackTrace(out);
         }
     }
 
     /** Запускає операції з Queue. */
-    private void runQueueOperations() {
-        System.out.println("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE");
-        System.out.println("-".repeat(50));
+    private void runQueueOperations(PrintStream out) {
+        out.println("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE");
+        out.println("-".repeat(50));
 
         try {
             BasicDataOperationUsingQueue queueProcessor =
-                    new BasicDataOperationUsingQueue(localDateValueToSearch, dateArray);
+                    new BasicDataOperationUsingQueue(localDateValueToSearch, preparedDataset, out);
             queueProcessor.runDataProcessing();
+            if (pipelineMode) {
+                queueProcessor.runProducerConsumerPipeline();
+            }
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
-            e.printStackTrace();
+            out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
+            e.printStackTrace(out);
         }
     }
 
     /** Запускає операції з Set. */
-    private void runSetOperations() {
-        System.out.println("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET");
-        System.out.println("-".repeat(50));
+    private void runSetOperations(PrintStream out) {
+        out.println("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET");
+        out.println("-".repeat(50));
 
         try {
             BasicDataOperationUsingSet setProcessor =
-                    new BasicDataOperationUsingSet(localDateValueToSearch, dateArray);
+                    new BasicDataOperationUsingSet(localDateValueToSearch, preparedDataset, out);
             setProcessor.executeDataAnalysis();
         } catch (Exception e) {
-            System.out.println("❌ Помилка при роботі з Set: " + e.getMessage());
-            e.printStackTrace();
+            out.println("❌ Помилка при роботі з Set: " + e.getMessage());
+            e.printStackTrace(out);
         }
     }
 
-    /** Запускає всі колекції по черзі. */
+    /**
+     * Запускає всі колекції по черзі або паралельно. Вимірювання кожного обробника збираються
+     * в окремий реєстр і додаються до спільного з назвою обробника, тому однакові операції
+     * різних обробників (наприклад, пошук у масиві) мають окремі рядки звіту.
+     */
     private void runAllOperations() {
         System.out.println("🎯 КОМПЛЕКСНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
         System.out.println("=".repeat(60));
 
-        runListOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
+        List<Consumer<PrintStream>> processorRuns = List.of(
+                this::runListOperations,
+                this::runQueueOperations,
+                this::runSetOperations);
 
-        runQueueOperations();
-        System.out.println("\n" + "~".repeat(60) + "\n");
+        if (concurrentMode) {
+            runConcurrently(processorRuns);
+            return;
+        }
 
-        runSetOperations();
+        for (int i = 0; i < processorRuns.size(); i++) {
+            if (i > 0) {
+                System.out.println(PROCESSOR_SEPARATOR);
+            }
+            Consumer<PrintStream> processorRun = processorRuns.get(i);
+            MetricsRegistry metrics = PerformanceTracker.recordSeparately(() -> processorRun.accept(System.out));
+            PerformanceTracker.getRegistry().addAll(metrics, PROCESSOR_NAMES.get(i));
+        }
+    }
+
+    /**
+     * Запускає обробники одночасно в окремих потоках.
+     * Кожен обробник пише у власний буфер і записує вимірювання до власного реєстру метрик.
+     * Буфери виводяться, а реєстри додаються до спільного в тому ж порядку, що й при послідовному
+     * запуску, тому ні вивід, ні порядок рядків звіту не залежать від того, який потік завершився першим.
+     * Обробники працюють з незмінним PreparedDataset, тому спільних змінюваних даних немає.
+     */
+    private void runConcurrently(List<Consumer<PrintStream>> processorRuns) {
+        ExecutorService executor = Executors.newFixedThreadPool(processorRuns.size());
+        try {
+            List<Future<ProcessorResult>> processorResults = new ArrayList<>();
+            for (Consumer<PrintStream> processorRun : processorRuns) {
+                processorResults.add(executor.submit(() -> {
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    MetricsRegistry metrics;
+                    try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+                        metrics = PerformanceTracker.recordSeparately(() -> processorRun.accept(out));
+                    }
+                    return new ProcessorResult(buffer.toString(StandardCharsets.UTF_8), metrics);
+                }));
+            }
+
+            for (int i = 0; i < processorResults.size(); i++) {
+                if (i > 0) {
+                    System.out.println(PROCESSOR_SEPARATOR);
+                }
+                ProcessorResult processorResult = processorResults.get(i).get();
+                System.out.print(processorResult.output);
+                PerformanceTracker.getRegistry().addAll(processorResult.metrics, PROCESSOR_NAMES.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("❌ Паралельну обробку перервано");
+        } catch (ExecutionException e) {
+            System.out.println("❌ Помилка при паралельній обробці: " + e.getCause());
+            e.getCause().printStackTrace();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Вивід і вимірювання одного обробника, зібрані під час паралельного запуску.
+     */
+    private static final class ProcessorResult {
+        final String output;
+        final MetricsRegistry metrics;
+
+        ProcessorResult(String output, MetricsRegistry metrics) {
+            this.output = output;
+            this.metrics = metrics;
+        }
     }
 }
@@ -1,6 +1,6 @@
+import java.io.PrintStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -10,7 +10,7 @@ import java.util.List;
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив елементів LocalDate.</li>
+ *   <li>{@link #performArraySorting()} - Переходить до спільного впорядкованого масиву LocalDate.</li>
  *   <li>{@link #findInArray()} - Здійснює пошук елемента в масиві LocalDate.</li>
  *   <li>{@link #locateMinMaxInArray()} - Визначає найменше і найбільше значення в масиві.</li>
  *   <li>{@link #sortList()} - Сортує колекцію List з LocalDate.</li>
@@ -20,19 +20,34 @@ import java.util.List;
  */
 public class BasicDataOperationUsingList {
     private LocalDate localDateValueToSearch;
-    private LocalDate[] dateTimeArray;
+    private final PreparedDataset preparedDataset;
+    private final PrintStream out;
+    private DateColumn dateTimeColumn;
     private List<LocalDate> dateTimeList;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
      * @param localDateValueToSearch Значення для пошуку
-     * @param dateTimeArray Масив LocalDate
+     * @param preparedDataset Спільний підготовлений набір дат
      */
-    BasicDataOperationUsingList(LocalDate localDateValueToSearch, LocalDate[] dateTimeArray) {
+    BasicDataOperationUsingList(LocalDate localDateValueToSearch, PreparedDataset preparedDataset) {
+        this(localDateValueToSearch, preparedDataset, System.out);
+    }
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
+     * 
+     * @param localDateValueToSearch Значення для пошуку
+     * @param preparedDataset Спільний підготовлений набір дат
+     * @param out Потік для виводу результатів
+     */
+    BasicDataOperationUsingList(LocalDate localDateValueToSearch, PreparedDataset preparedDataset, PrintStream out) {
+        this.out = out;
         this.localDateValueToSearch = localDateValueToSearch;
-        this.dateTimeArray = dateTimeArray;
-        this.dateTimeList = new ArrayList<>(Arrays.asList(dateTimeArray));
+        this.preparedDataset = preparedDataset;
+        this.dateTimeColumn = preparedDataset.getLoadOrderColumn();
+        this.dateTimeList = new ArrayList<>(dateTimeColumn.asList());
     }
     
     /**
@@ -59,21 +74,14 @@ public class BasicDataOperationUsingList {
         
         findInArray();
         locateMinMaxInArray();
-
-        // зберігаємо відсортований масив до окремого файлу
-        DataFileHandler.writeArrayToFile(dateTimeArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
     }
 
     /**
-     * Упорядковує масив об'єктів LocalDate за зростанням.
-     * Фіксує та виводить тривалість операції сортування в наносекундах.
+     * Переходить від масиву в порядку завантаження до спільного впорядкованого масиву.
+     * Сортування виконується і вимірюється один раз у PreparedDataset, тому тут лише змінюється посилання.
      */
     void performArraySorting() {
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(dateTimeArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+        dateTimeColumn = preparedDataset.getSortedColumn();
     }
 
     /**
@@ -82,14 +90,14 @@ public class BasicDataOperationUsingList {
     void findInArray() {
         long timeStart = System.nanoTime();
 
-        int position = Arrays.binarySearch(this.dateTimeArray, localDateValueToSearch);
+        int position = this.dateTimeColumn.binarySearch(localDateValueToSearch);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в масивi дати i часу");
 
         if (position >= 0) {
-            System.out.println("Елемент '" + localDateValueToSearch + "' знайдено в масивi за позицією: " + position);
+            out.println("Елемент '" + localDateValueToSearch + "' знайдено в масивi за позицією: " + position);
         } else {
-            System.out.println("Елемент '" + localDateValueToSearch + "' відсутній в масиві.");
+            out.println("Елемент '" + localDateValueToSearch + "' відсутній в масиві.");
         }
     }
 
@@ -97,29 +105,19 @@ public class BasicDataOperationUsingList {
      * Визначає найменше та найбільше значення в масиві дати та часу.
      */
     void locateMinMaxInArray() {
-        if (dateTimeArray == null || dateTimeArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+        if (dateTimeColumn == null || dateTimeColumn.isEmpty()) {
+            out.println("Масив є пустим або не ініціалізованим.");
             return;
         }
 
         long timeStart = System.nanoTime();
 
-        LocalDate minValue = dateTimeArray[0];
-        LocalDate maxValue = dateTimeArray[0];
-
-        for (LocalDate currentDateTime : dateTimeArray) {
-            if (currentDateTime.isBefore(minValue)) {
-                minValue = currentDateTime;
-            }
-            if (currentDateTime.isAfter(maxValue)) {
-                maxValue = currentDateTime;
-            }
-        }
+        DateColumn.Bounds bounds = dateTimeColumn.bounds();
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
 
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        out.println("Найменше значення в масивi: " + bounds.getMin());
+        out.println("Найбільше значення в масивi: " + bounds.getMax());
     }
 
     /**
@@ -130,12 +128,12 @@ public class BasicDataOperationUsingList {
 
         int position = Collections.binarySearch(this.dateTimeList, localDateValueToSearch);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в List дати i часу");        
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в List дати i часу");        
 
         if (position >= 0) {
-            System.out.println("Елемент '" + localDateValueToSearch + "' знайдено в ArrayList за позицією: " + position);
+            out.println("Елемент '" + localDateValueToSearch + "' знайдено в ArrayList за позицією: " + position);
         } else {
-            System.out.println("Елемент '" + localDateValueToSearch + "' відсутній в ArrayList.");
+            out.println("Елемент '" + localDateValueToSearch + "' відсутній в ArrayList.");
         }
     }
 
@@ -144,7 +142,7 @@ public class BasicDataOperationUsingList {
      */
     void locateMinMaxInList() {
         if (dateTimeList == null || dateTimeList.isEmpty()) {
-            System.out.println("Колекція ArrayList є пустою або не ініціалізованою.");
+            out.println("Колекція ArrayList є пустою або не ініціалізованою.");
             return;
         }
 
@@ -153,21 +151,22 @@ public class BasicDataOperationUsingList {
         LocalDate minValue = Collections.min(dateTimeList);
         LocalDate maxValue = Collections.max(dateTimeList);
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в List");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в List");
 
-        System.out.println("Найменше значення в List: " + minValue);
-        System.out.println("Найбільше значення в List: " + maxValue);
+        out.println("Найменше значення в List: " + minValue);
+        out.println("Найбільше значення в List: " + maxValue);
     }
 
     /**
-     * Упорядковує колекцію List з об'єктами LocalDate за зростанням.
-     * Відстежує та виводить час виконання операції сортування.
+     * Упорядковує колекцію List з об'єктами LocalDate за зростанням через DateSortEngine:
+     * дати сортуються як дні від епохи, а не об'єкти з викликами compareTo.
+     * Відстежує час виконання операції сортування.
      */
     void sortList() {
         long timeStart = System.nanoTime();
 
-        Collections.sort(dateTimeList);
+        DateSortEngine.sort(dateTimeList);
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування ArrayList дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "упорядкування ArrayList дати i часу");
     }
 }
\ No newline at end of file
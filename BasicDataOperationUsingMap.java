@@ -1,10 +1,24 @@
+import java.io.PrintStream;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.BiPredicate;
+import java.util.stream.Stream;
 
 /**
  * Клас BasicDataOperationUsingMap реалізує операції з колекціями типу Map для зберігання пар ключ-значення.
@@ -22,28 +36,93 @@ import java.util.TreeMap;
  * </ul>
  */
 public class BasicDataOperationUsingMap {
-    private final Pet KEY_TO_SEARCH_AND_DELETE = new Pet("Луна", "Полярна сова");
-    private final Pet KEY_TO_ADD = new Pet("Кір", "Сова вухата");
+    static final String PATH_TO_PET_DATA_FILE = "list/Pet.data";
+
+    private final Pet KEY_TO_SEARCH_AND_DELETE = Pet.of("Луна", "Полярна сова");
+    private final Pet KEY_TO_ADD = Pet.of("Кір", "Сова вухата");
 
     private final String VALUE_TO_SEARCH_AND_DELETE = "Олена";
     private final String VALUE_TO_ADD = "Богдан";
 
-    private Hashtable<Pet, String> hashtable;
+    // Видалення за умовою: усі сичики незалежно від власника
+    private final String SPECIES_PREFIX_TO_DELETE = "Сичик";
+
+    private final String NICKNAME_PREFIX_TO_SEARCH = "Бо";
+    private final String NICKNAME_TO_SEARCH = "Барсик";
+
+    private final Hashtable<Pet, String> hashtable;
+    // Впорядковані ключі Hashtable; null, якщо знімок ще не обчислено або набір ключів змінився
+    private Pet[] sortedHashtableKeys;
+    private boolean hashtableSortRequested;
     private TreeMap<Pet, String> treeMap;
+    private final OwnerIndex hashtableOwnerIndex;
+    private final OwnerIndex treeMapOwnerIndex;
+    private final ConcurrentPetRegistry petRegistry;
+    private final ConcurrentPetIndex petIndex;
+    private final PetColumnStore petColumnStore;
+    private final PrintStream out;
 
     /**
-     * Компаратор для сортування Map.Entry за значеннями String.
-     * Використовує метод String.compareTo() для порівняння імен власників.
+     * Зворотний індекс від імені власника до множини його тварин.
+     * 
+     * Оновлюється разом з відповідною Map при кожному додаванні та видаленні,
+     * тому пошук за значенням коштує O(1), а видалення за значенням - O(k),
+     * де k - кількість тварин цього власника.
      */
-    static class OwnerValueComparator implements Comparator<Map.Entry<Pet, String>> {
-        @Override
-        public int compare(Map.Entry<Pet, String> e1, Map.Entry<Pet, String> e2) {
-            String v1 = e1.getValue();
-            String v2 = e2.getValue();
-            if (v1 == null && v2 == null) return 0;
-            if (v1 == null) return -1;
-            if (v2 == null) return 1;
-            return v1.compareTo(v2);
+    static class OwnerIndex {
+        private final Map<String, Set<Pet>> petsByOwner = new HashMap<>();
+
+        /**
+         * Будує індекс за поточним вмістом Map.
+         * 
+         * @param source Map з ключами Pet та іменами власників
+         */
+        OwnerIndex(Map<Pet, String> source) {
+            for (Map.Entry<Pet, String> entry : source.entrySet()) {
+                add(entry.getKey(), entry.getValue());
+            }
+        }
+
+        /**
+         * Враховує запис pet -> owner, що замінив попереднього власника (або null, якщо запису не було).
+         */
+        void onPut(Pet pet, String previousOwner, String owner) {
+            remove(pet, previousOwner);
+            add(pet, owner);
+        }
+
+        /**
+         * Враховує видалення запису pet -> owner.
+         */
+        void onRemove(Pet pet, String owner) {
+            remove(pet, owner);
+        }
+
+        /**
+         * Повертає незмінну множину тварин власника (порожню, якщо власника немає).
+         */
+        Set<Pet> petsOf(String owner) {
+            Set<Pet> pets = petsByOwner.get(owner);
+            return pets != null ? Collections.unmodifiableSet(pets) : Collections.emptySet();
+        }
+
+        /**
+         * Видаляє власника з індексу та повертає множину його тварин.
+         */
+        Set<Pet> removeOwner(String owner) {
+            Set<Pet> pets = petsByOwner.remove(owner);
+            return pets != null ? pets : Collections.emptySet();
+        }
+
+        private void add(Pet pet, String owner) {
+            petsByOwner.computeIfAbsent(owner, key -> new HashSet<>()).add(pet);
+        }
+
+        private void remove(Pet pet, String owner) {
+            Set<Pet> pets = petsByOwner.get(owner);
+            if (pets != null && pets.remove(pet) && pets.isEmpty()) {
+                petsByOwner.remove(owner);
+            }
         }
     }
 
@@ -52,19 +131,94 @@ public class BasicDataOperationUsingMap {
      * 
      * Реалізує Comparable<Pet> для визначення природного порядку сортування.
      * Природний порядок: спочатку за кличкою (nickname) за зростанням, потім за видом (species) за спаданням.
+     * 
+     * Pet незмінний: хеш-код обчислюється один раз у конструкторі.
+     * Фабричний метод {@link #of(String, String)} повертає канонічні екземпляри з обмеженого кешу,
+     * а їхні клички та види беруться з обмеженого пулу рядків, тому порівняння ключів,
+     * створених через of(), здебільшого зводиться до перевірки посилань.
      */
-    public static class Pet implements Comparable<Pet> {
+    public static final class Pet implements Comparable<Pet> {
+        // Розміри кешів - степені двійки; кеш прямого відображення витісняє старий запис при колізії
+        private static final int STRING_POOL_SIZE = 1 << 12;
+        private static final int PET_CACHE_SIZE = 1 << 12;
+
+        // Елементи - незмінні об'єкти з final-полями, тому кеші безпечно читати й заповнювати без синхронізації
+        private static final String[] STRING_POOL = new String[STRING_POOL_SIZE];
+        private static final Pet[] PET_CACHE = new Pet[PET_CACHE_SIZE];
+
         private final String nickname;
         private final String species;
+        private final int hash;
 
+        /**
+         * Створює новий, не канонічний екземпляр. Для ключів пошуку краще використовувати {@link #of(String)}.
+         */
         public Pet(String nickname) {
-            this.nickname = nickname;
-            this.species = null;
+            this(nickname, null);
         }
 
+        /**
+         * Створює новий, не канонічний екземпляр. Для ключів пошуку краще використовувати {@link #of(String, String)}.
+         */
         public Pet(String nickname, String species) {
+            this(nickname, species, hash(nickname, species));
+        }
+
+        private Pet(String nickname, String species, int hash) {
             this.nickname = nickname;
             this.species = species;
+            this.hash = hash;
+        }
+
+        /**
+         * Повертає канонічний Pet з указаними кличкою та видом.
+         * Повторні виклики з тими самими значеннями повертають той самий екземпляр,
+         * доки його не витіснить із кешу інший Pet.
+         * 
+         * @param nickname Кличка тварини
+         * @param species Вид тварини (може бути null)
+         * @return Канонічний Pet
+         */
+        public static Pet of(String nickname, String species) {
+            int hash = hash(nickname, species);
+            int slot = spread(hash) & (PET_CACHE_SIZE - 1);
+
+            Pet cached = PET_CACHE[slot];
+            if (cached != null && cached.hash == hash
+                    && Objects.equals(cached.nickname, nickname) && Objects.equals(cached.species, species)) {
+                return cached;
+            }
+
+            Pet pet = new Pet(intern(nickname), intern(species), hash);
+            PET_CACHE[slot] = pet;
+            return pet;
+        }
+
+        /**
+         * Повертає канонічний Pet без виду.
+         */
+        public static Pet of(String nickname) {
+            return of(nickname, null);
+        }
+
+        /**
+         * Повертає рядок з обмеженого пулу, рівний указаному.
+         */
+        private static String intern(String value) {
+            if (value == null) {
+                return null;
+            }
+            int slot = spread(value.hashCode()) & (STRING_POOL_SIZE - 1);
+            String pooled = STRING_POOL[slot];
+            if (value.equals(pooled)) {
+                return pooled;
+            }
+            STRING_POOL[slot] = value;
+            return value;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
         }
 
         public String getNickname() { 
@@ -93,6 +247,7 @@ public class BasicDataOperationUsingMap {
          */
         @Override
         public int compareTo(Pet other) {
+            if (other == this) return 0;
             if (other == null) return 1;
             
             // Спочатку порівнюємо за кличкою (за зростанням)
@@ -127,6 +282,8 @@ public class BasicDataOperationUsingMap {
          * @return true, якщо об'єкти рівні; false в іншому випадку
          * 
          * Критерій рівності: поля nickname (кличка) та species (вид).
+         * Для канонічних екземплярів достатньо перевірки посилань; різні хеш-коди
+         * відкидають нерівні Pet без порівняння рядків.
          * 
          * Важливо: метод узгоджений з compareTo() - якщо equals() повертає true,
          * то compareTo() повертає 0, оскільки обидва методи порівнюють за nickname та species.
@@ -134,27 +291,32 @@ public class BasicDataOperationUsingMap {
         @Override
         public boolean equals(Object obj) {
             if (this == obj) return true;
-            if (obj == null || getClass() != obj.getClass()) return false;
+            if (!(obj instanceof Pet)) return false;
             Pet pet = (Pet) obj;
-            
-            boolean nicknameEquals = nickname != null ? nickname.equals(pet.nickname) : pet.nickname == null;
-            boolean speciesEquals = species != null ? species.equals(pet.species) : pet.species == null;
-            
-            return nicknameEquals && speciesEquals;
+
+            // String.equals() спершу перевіряє посилання, тому рядки з пулу порівнюються за O(1)
+            return hash == pet.hash
+                    && Objects.equals(nickname, pet.nickname)
+                    && Objects.equals(species, pet.species);
         }
 
         /**
-         * Повертає хеш-код для цього Pet.
+         * Повертає хеш-код для цього Pet, обчислений один раз під час створення.
          * 
          * @return хеш-код, обчислений на основі nickname та species
          * 
-         * Базується на полях nickname та species для узгодженості з equals().
-         * 
          * Важливо: узгоджений з equals() - якщо два Pet рівні за equals()
          * (мають однакові nickname та species), вони матимуть однаковий hashCode().
          */
         @Override
         public int hashCode() {
+            return hash;
+        }
+
+        /**
+         * Обчислює хеш-код за полями nickname та species.
+         */
+        private static int hash(String nickname, String species) {
             // Початкове значення: хеш-код поля nickname (або 0, якщо nickname == null)
             int result = nickname != null ? nickname.hashCode() : 0;
             
@@ -175,9 +337,9 @@ public class BasicDataOperationUsingMap {
         @Override
         public String toString() {
             if (species != null) {
-                return "Pet{nickname='" + nickname + "', species='" + species + "', hashCode=" + hashCode() + "}";
+                return "Pet{nickname='" + nickname + "', species='" + species + "', hashCode=" + hash + "}";
             }
-            return "Pet{nickname='" + nickname + "', hashCode=" + hashCode() + "}";
+            return "Pet{nickname='" + nickname + "', hashCode=" + hash + "}";
         }
     }
 
@@ -188,8 +350,25 @@ public class BasicDataOperationUsingMap {
      * @param treeMap TreeMap з початковими даними (ключ: Pet, значення: ім'я власника)
      */
     BasicDataOperationUsingMap(Hashtable<Pet, String> hashtable, TreeMap<Pet, String> treeMap) {
+        this(hashtable, treeMap, System.out);
+    }
+
+    /**
+     * Конструктор, який ініціалізує об'єкт з готовими даними та потоком виводу.
+     * 
+     * @param hashtable Hashtable з початковими даними (ключ: Pet, значення: ім'я власника)
+     * @param treeMap TreeMap з початковими даними (ключ: Pet, значення: ім'я власника)
+     * @param out Потік для виводу результатів
+     */
+    BasicDataOperationUsingMap(Hashtable<Pet, String> hashtable, TreeMap<Pet, String> treeMap, PrintStream out) {
         this.hashtable = hashtable;
         this.treeMap = treeMap;
+        this.hashtableOwnerIndex = new OwnerIndex(hashtable);
+        this.treeMapOwnerIndex = new OwnerIndex(treeMap);
+        this.petRegistry = new ConcurrentPetRegistry(hashtable);
+        this.petIndex = new ConcurrentPetIndex(treeMap);
+        this.petColumnStore = PetColumnStore.of(treeMap);
+        this.out = out;
     }
     
     /**
@@ -199,8 +378,8 @@ public class BasicDataOperationUsingMap {
      */
     public void executeDataOperations() {
         // Спочатку працюємо з Hashtable
-        System.out.println("========= Операції з Hashtable =========");
-        System.out.println("Початковий розмір Hashtable: " + hashtable.size());
+        out.println("========= Операції з Hashtable =========");
+        out.println("Початковий розмір Hashtable: " + hashtable.size());
         
         // Пошук до сортування
         findByKeyInHashtable();
@@ -218,12 +397,13 @@ public class BasicDataOperationUsingMap {
         
         removeByKeyFromHashtable();
         removeByValueFromHashtable();
+        removeByPredicateFromHashtable();
                
-        System.out.println("Кінцевий розмір Hashtable: " + hashtable.size());
+        out.println("Кінцевий розмір Hashtable: " + hashtable.size());
 
         // Потім обробляємо TreeMap
-        System.out.println("\n\n========= Операції з TreeMap =========");
-        System.out.println("Початковий розмір TreeMap: " + treeMap.size());
+        out.println("\n\n========= Операції з TreeMap =========");
+        out.println("Початковий розмір TreeMap: " + treeMap.size());
         
         findByKeyInTreeMap();
         findByValueInTreeMap();
@@ -234,50 +414,108 @@ public class BasicDataOperationUsingMap {
         
         removeByKeyFromTreeMap();
         removeByValueFromTreeMap();
+        removeByPredicateFromTreeMap();
         
-        System.out.println("Кінцевий розмір TreeMap: " + treeMap.size());
+        out.println("Кінцевий розмір TreeMap: " + treeMap.size());
+
+        // Насамкінець - конкурентний реєстр із тими самими початковими даними, що й Hashtable
+        out.println("\n\n========= Операції з ConcurrentPetRegistry =========");
+        out.println("Початковий розмір ConcurrentPetRegistry: " + petRegistry.size());
+
+        findByKeyInRegistry();
+        findByValueInRegistry();
+
+        addEntryToRegistry();
+
+        removeByKeyFromRegistry();
+        removeByValueFromRegistry();
+
+        out.println("Кінцевий розмір ConcurrentPetRegistry: " + petRegistry.size());
+
+        // Конкурентний впорядкований індекс із тими самими початковими даними, що й TreeMap
+        out.println("\n\n========= Операції з ConcurrentPetIndex =========");
+        out.println("Початковий розмір ConcurrentPetIndex: " + petIndex.size());
+
+        findByKeyInIndex();
+        findByNicknamePrefixInIndex();
+        findSpeciesByNicknameInIndex();
+
+        addEntryToIndex();
+        removeByKeyFromIndex();
+
+        out.println("Кінцевий розмір ConcurrentPetIndex: " + petIndex.size());
+
+        // Стовпцеве сховище зі словниками видів і власників
+        out.println("\n\n========= Операції з PetColumnStore =========");
+        out.println("Початковий розмір PetColumnStore: " + petColumnStore.size());
+
+        findByValueInColumnStore();
+        groupByOwnerInColumnStore();
+        groupBySpeciesInColumnStore();
+
+        removeByValueFromColumnStore();
+
+        out.println("Кінцевий розмір PetColumnStore: " + petColumnStore.size());
     }
 
 
     // ===== Методи для Hashtable =====
 
     /**
-     * Виводить вміст Hashtable без сортування.
-     * Hashtable не гарантує жодного порядку елементів.
+     * Виводить вміст Hashtable.
+     * До сортування порядок визначає сама Hashtable, яка не гарантує жодного порядку елементів.
+     * Після sortHashtable() записи виводяться в порядку ключів зі збереженого знімка.
      */
-    private void printHashtable() {
-        System.out.println("\n=== Пари ключ-значення в Hashtable ===");
+    void printHashtable() {
+        out.println("\n=== Пари ключ-значення в Hashtable ===");
         long timeStart = System.nanoTime();
 
-        for (Map.Entry<Pet, String> entry : hashtable.entrySet()) {
-            System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
+        if (hashtableSortRequested) {
+            for (Pet key : sortedHashtableKeys()) {
+                out.println("  " + key + " -> " + hashtable.get(key));
+            }
+        } else {
+            for (Map.Entry<Pet, String> entry : hashtable.entrySet()) {
+                out.println("  " + entry.getKey() + " -> " + entry.getValue());
+            }
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пари ключ-значення в Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "виведення пари ключ-значення в Hashtable");
     }
 
     /**
      * Сортує Hashtable за ключами.
-     * Використовує Collections.sort() з природним порядком Pet (Pet.compareTo()).
-     * Перезаписує hashtable відсортованими даними.
+     * Сама Hashtable не змінюється: ключі, впорядковані за природним порядком Pet (Pet.compareTo()),
+     * зберігаються в знімку, який використовують подальші впорядковані читання.
+     * Знімок обчислюється лише після зміни Hashtable, тому повторне сортування нічого не коштує.
      */
-    private void sortHashtable() {
+    void sortHashtable() {
         long timeStart = System.nanoTime();
 
-        // Створюємо список ключів і сортуємо за природним порядком Pet
-        List<Pet> sortedKeys = new ArrayList<>(hashtable.keySet());
-        Collections.sort(sortedKeys);
-        
-        // Створюємо нову Hashtable з відсортованими ключами
-        Hashtable<Pet, String> sortedHashtable = new Hashtable<>();
-        for (Pet key : sortedKeys) {
-            sortedHashtable.put(key, hashtable.get(key));
+        sortedHashtableKeys();
+        hashtableSortRequested = true;
+
+        PerformanceTracker.recordOperationTime(timeStart, "сортування Hashtable за ключами");
+    }
+
+    /**
+     * Повертає впорядковані ключі Hashtable, обчислюючи знімок, якщо його ще немає.
+     */
+    private Pet[] sortedHashtableKeys() {
+        if (sortedHashtableKeys == null) {
+            Pet[] keys = hashtable.keySet().toArray(new Pet[0]);
+            Arrays.sort(keys);
+            sortedHashtableKeys = keys;
         }
-        
-        // Перезаписуємо оригінальну hashtable
-        hashtable = sortedHashtable;
+        return sortedHashtableKeys;
+    }
 
-        PerformanceTracker.displayOperationTime(timeStart, "сортування Hashtable за ключами");
+    /**
+     * Скидає знімок впорядкованих ключів. Викликається після кожної зміни набору ключів Hashtable;
+     * зміна лише власника знімок не зачіпає, бо значення читаються з самої Hashtable.
+     */
+    private void invalidateSortedHashtableKeys() {
+        sortedHashtableKeys = null;
     }
 
     /**
@@ -289,44 +527,31 @@ public class BasicDataOperationUsingMap {
 
         boolean found = hashtable.containsKey(KEY_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за ключем в Hashtable");
 
         if (found) {
             String value = hashtable.get(KEY_TO_SEARCH_AND_DELETE);
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
+            out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
         } else {
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в Hashtable.");
+            out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в Hashtable.");
         }
     }
 
     /**
      * Здійснює пошук елемента за значенням в Hashtable.
-     * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
+     * Використовує зворотний індекс власників, тому не переглядає всі записи.
      */
     void findByValueInHashtable() {
         long timeStart = System.nanoTime();
 
-        // Створюємо список Entry та сортуємо за значеннями
-        List<Map.Entry<Pet, String>> entries = new ArrayList<>(hashtable.entrySet());
-        OwnerValueComparator comparator = new OwnerValueComparator();
-        Collections.sort(entries, comparator);
-
-        // Створюємо тимчасовий Entry для пошуку
-        Map.Entry<Pet, String> searchEntry = new Map.Entry<Pet, String>() {
-            public Pet getKey() { return null; }
-            public String getValue() { return VALUE_TO_SEARCH_AND_DELETE; }
-            public String setValue(String value) { return null; }
-        };
+        Set<Pet> ownedPets = hashtableOwnerIndex.petsOf(VALUE_TO_SEARCH_AND_DELETE);
 
-        int position = Collections.binarySearch(entries, searchEntry, comparator);
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за значенням в Hashtable");
 
-        PerformanceTracker.displayOperationTime(timeStart, "бінарний пошук за значенням в Hashtable");
-
-        if (position >= 0) {
-            Map.Entry<Pet, String> foundEntry = entries.get(position);
-            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + foundEntry.getKey());
+        if (!ownedPets.isEmpty()) {
+            out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + ownedPets.iterator().next());
         } else {
-            System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в Hashtable.");
+            out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в Hashtable.");
         }
     }
 
@@ -336,11 +561,15 @@ public class BasicDataOperationUsingMap {
     void addEntryToHashtable() {
         long timeStart = System.nanoTime();
 
-        hashtable.put(KEY_TO_ADD, VALUE_TO_ADD);
+        String previousOwner = hashtable.put(KEY_TO_ADD, VALUE_TO_ADD);
+        hashtableOwnerIndex.onPut(KEY_TO_ADD, previousOwner, VALUE_TO_ADD);
+        if (previousOwner == null) {
+            invalidateSortedHashtableKeys();
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "додавання запису до Hashtable");
 
-        System.out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+        out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
     }
 
     /**
@@ -350,36 +579,62 @@ public class BasicDataOperationUsingMap {
         long timeStart = System.nanoTime();
 
         String removedValue = hashtable.remove(KEY_TO_SEARCH_AND_DELETE);
+        hashtableOwnerIndex.onRemove(KEY_TO_SEARCH_AND_DELETE, removedValue);
+        if (removedValue != null) {
+            invalidateSortedHashtableKeys();
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за ключем з Hashtable");
 
         if (removedValue != null) {
-            System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+            out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
         } else {
-            System.out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+            out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
         }
     }
 
     /**
      * Видаляє записи з Hashtable за значенням.
+     * Коштує O(k), де k - кількість тварин власника.
      */
     void removeByValueFromHashtable() {
         long timeStart = System.nanoTime();
 
-        List<Pet> keysToRemove = new ArrayList<>();
-        for (Map.Entry<Pet, String> entry : hashtable.entrySet()) {
-            if (entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE)) {
-                keysToRemove.add(entry.getKey());
-            }
-        }
-        
+        // Ключі власника беремо з індексу замість перегляду всієї Hashtable
+        Set<Pet> keysToRemove = hashtableOwnerIndex.removeOwner(VALUE_TO_SEARCH_AND_DELETE);
         for (Pet key : keysToRemove) {
             hashtable.remove(key);
         }
+        invalidateSortedHashtableKeys();
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за значенням з Hashtable");
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+        out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+    }
+
+    /**
+     * Видаляє з Hashtable записи, що задовольняють умову видалення за видом.
+     */
+    void removeByPredicateFromHashtable() {
+        long timeStart = System.nanoTime();
+
+        int removedCount = removeAllFromHashtable(this::isSpeciesToDelete);
+
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за умовою з Hashtable");
+
+        out.println("Видалено " + removedCount + " записів з видом, що починається з '" + SPECIES_PREFIX_TO_DELETE + "'");
+    }
+
+    /**
+     * Видаляє з Hashtable всі записи, що задовольняють умову, за один прохід
+     * та оновлює індекс власників.
+     * 
+     * @param predicate Умова для пари тварина-власник
+     * @return Кількість видалених записів
+     */
+    int removeAllFromHashtable(BiPredicate<? super Pet, ? super String> predicate) {
+        invalidateSortedHashtableKeys();
+        return removeAll(hashtable, hashtableOwnerIndex, predicate);
     }
 
     // ===== Методи для TreeMap =====
@@ -388,15 +643,15 @@ public class BasicDataOperationUsingMap {
      * Виводить вміст TreeMap.
      * TreeMap автоматично відсортована за ключами (Pet nickname за зростанням, species за спаданням).
      */
-    private void printTreeMap() {
-        System.out.println("\n=== Пари ключ-значення в TreeMap ===");
+    void printTreeMap() {
+        out.println("\n=== Пари ключ-значення в TreeMap ===");
 
         long timeStart = System.nanoTime();
         for (Map.Entry<Pet, String> entry : treeMap.entrySet()) {
-            System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
+            out.println("  " + entry.getKey() + " -> " + entry.getValue());
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пар ключ-значення в TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "виведення пар ключ-значення в TreeMap");
     }
 
     /**
@@ -408,44 +663,31 @@ public class BasicDataOperationUsingMap {
 
         boolean found = treeMap.containsKey(KEY_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за ключем в TreeMap");
 
         if (found) {
             String value = treeMap.get(KEY_TO_SEARCH_AND_DELETE);
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
+            out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
         } else {
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
+            out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
         }
     }
 
     /**
      * Здійснює пошук елемента за значенням в TreeMap.
-     * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
+     * Використовує зворотний індекс власників, тому не переглядає всі записи.
      */
     void findByValueInTreeMap() {
         long timeStart = System.nanoTime();
 
-        // Створюємо список Entry та сортуємо за значеннями
-        List<Map.Entry<Pet, String>> entries = new ArrayList<>(treeMap.entrySet());
-        OwnerValueComparator comparator = new OwnerValueComparator();
-        Collections.sort(entries, comparator);
-
-        // Створюємо тимчасовий Entry для пошуку
-        Map.Entry<Pet, String> searchEntry = new Map.Entry<Pet, String>() {
-            public Pet getKey() { return null; }
-            public String getValue() { return VALUE_TO_SEARCH_AND_DELETE; }
-            public String setValue(String value) { return null; }
-        };
-
-        int position = Collections.binarySearch(entries, searchEntry, comparator);
+        Set<Pet> ownedPets = treeMapOwnerIndex.petsOf(VALUE_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "бінарний пошук за значенням в TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за значенням в TreeMap");
 
-        if (position >= 0) {
-            Map.Entry<Pet, String> foundEntry = entries.get(position);
-            System.out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + foundEntry.getKey());
+        if (!ownedPets.isEmpty()) {
+            out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + ownedPets.iterator().next());
         } else {
-            System.out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
+            out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в TreeMap.");
         }
     }
 
@@ -455,11 +697,12 @@ public class BasicDataOperationUsingMap {
     void addEntryToTreeMap() {
         long timeStart = System.nanoTime();
 
-        treeMap.put(KEY_TO_ADD, VALUE_TO_ADD);
+        String previousOwner = treeMap.put(KEY_TO_ADD, VALUE_TO_ADD);
+        treeMapOwnerIndex.onPut(KEY_TO_ADD, previousOwner, VALUE_TO_ADD);
 
-        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "додавання запису до TreeMap");
 
-        System.out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+        out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
     }
 
     /**
@@ -469,70 +712,523 @@ public class BasicDataOperationUsingMap {
         long timeStart = System.nanoTime();
 
         String removedValue = treeMap.remove(KEY_TO_SEARCH_AND_DELETE);
+        treeMapOwnerIndex.onRemove(KEY_TO_SEARCH_AND_DELETE, removedValue);
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за ключем з TreeMap");
 
         if (removedValue != null) {
-            System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+            out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
         } else {
-            System.out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+            out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
         }
     }
 
     /**
      * Видаляє записи з TreeMap за значенням.
+     * Коштує O(k), де k - кількість тварин власника.
      */
     void removeByValueFromTreeMap() {
         long timeStart = System.nanoTime();
 
-        List<Pet> keysToRemove = new ArrayList<>();
-        for (Map.Entry<Pet, String> entry : treeMap.entrySet()) {
-            if (entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE)) {
-                keysToRemove.add(entry.getKey());
-            }
-        }
-        
+        // Ключі власника беремо з індексу замість перегляду всієї TreeMap
+        Set<Pet> keysToRemove = treeMapOwnerIndex.removeOwner(VALUE_TO_SEARCH_AND_DELETE);
         for (Pet key : keysToRemove) {
             treeMap.remove(key);
         }
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за значенням з TreeMap");
+
+        out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+    }
+
+    /**
+     * Видаляє з TreeMap записи, що задовольняють умову видалення за видом.
+     */
+    void removeByPredicateFromTreeMap() {
+        long timeStart = System.nanoTime();
+
+        int removedCount = removeAllFromTreeMap(this::isSpeciesToDelete);
+
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за умовою з TreeMap");
+
+        out.println("Видалено " + removedCount + " записів з видом, що починається з '" + SPECIES_PREFIX_TO_DELETE + "'");
+    }
+
+    /**
+     * Видаляє з TreeMap всі записи, що задовольняють умову, за один прохід
+     * та оновлює індекс власників.
+     * 
+     * @param predicate Умова для пари тварина-власник
+     * @return Кількість видалених записів
+     */
+    int removeAllFromTreeMap(BiPredicate<? super Pet, ? super String> predicate) {
+        return removeAll(treeMap, treeMapOwnerIndex, predicate);
+    }
+
+    // ===== Методи для ConcurrentPetRegistry =====
+
+    /**
+     * Здійснює пошук елемента за ключем в ConcurrentPetRegistry без блокування.
+     */
+    void findByKeyInRegistry() {
+        long timeStart = System.nanoTime();
+
+        String owner = petRegistry.get(KEY_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за ключем в ConcurrentPetRegistry");
+
+        if (owner != null) {
+            out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + owner);
+        } else {
+            out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в ConcurrentPetRegistry.");
+        }
+    }
+
+    /**
+     * Здійснює пошук елемента за значенням в ConcurrentPetRegistry через індекс власників.
+     */
+    void findByValueInRegistry() {
+        long timeStart = System.nanoTime();
+
+        Set<Pet> ownedPets = petRegistry.petsOf(VALUE_TO_SEARCH_AND_DELETE);
+        Pet foundPet = ownedPets.isEmpty() ? null : ownedPets.iterator().next();
+
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за значенням в ConcurrentPetRegistry");
+
+        if (foundPet != null) {
+            out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + foundPet);
+        } else {
+            out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в ConcurrentPetRegistry.");
+        }
+    }
+
+    /**
+     * Атомарно додає запис до ConcurrentPetRegistry, якщо такої тварини ще немає.
+     */
+    void addEntryToRegistry() {
+        long timeStart = System.nanoTime();
+
+        String currentOwner = petRegistry.putIfAbsent(KEY_TO_ADD, VALUE_TO_ADD);
+
+        PerformanceTracker.recordOperationTime(timeStart, "додавання запису до ConcurrentPetRegistry");
+
+        if (currentOwner == null) {
+            out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+        } else {
+            out.println("Запис з ключем '" + KEY_TO_ADD + "' вже існує. Власник: " + currentOwner);
+        }
+    }
+
+    /**
+     * Видаляє запис з ConcurrentPetRegistry за ключем.
+     */
+    void removeByKeyFromRegistry() {
+        long timeStart = System.nanoTime();
+
+        String removedValue = petRegistry.remove(KEY_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за ключем з ConcurrentPetRegistry");
+
+        if (removedValue != null) {
+            out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+        } else {
+            out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+        }
+    }
+
+    /**
+     * Атомарно видаляє з ConcurrentPetRegistry всі записи власника.
+     */
+    void removeByValueFromRegistry() {
+        long timeStart = System.nanoTime();
+
+        int removedCount = petRegistry.removeAllOwnedBy(VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за значенням з ConcurrentPetRegistry");
+
+        out.println("Видалено " + removedCount + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+    }
+
+    // ===== Методи для ConcurrentPetIndex =====
+
+    /**
+     * Здійснює пошук елемента за ключем в ConcurrentPetIndex без блокування.
+     */
+    void findByKeyInIndex() {
+        long timeStart = System.nanoTime();
+
+        String owner = petIndex.get(KEY_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за ключем в ConcurrentPetIndex");
+
+        if (owner != null) {
+            out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + owner);
+        } else {
+            out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в ConcurrentPetIndex.");
+        }
+    }
+
+    /**
+     * Знаходить усіх тварин, клички яких починаються з префікса, запитом за діапазоном.
+     */
+    void findByNicknamePrefixInIndex() {
+        long timeStart = System.nanoTime();
+
+        List<Map.Entry<Pet, String>> foundEntries = new ArrayList<>(petIndex.withNicknamePrefix(NICKNAME_PREFIX_TO_SEARCH).entrySet());
+
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за префіксом клички в ConcurrentPetIndex");
+
+        out.println("Тварини з кличкою, що починається з '" + NICKNAME_PREFIX_TO_SEARCH + "': " + foundEntries.size());
+        for (Map.Entry<Pet, String> entry : foundEntries) {
+            out.println("  " + entry.getKey() + " -> " + entry.getValue());
+        }
+    }
+
+    /**
+     * Знаходить усі види тварин з указаною кличкою запитом за діапазоном.
+     */
+    void findSpeciesByNicknameInIndex() {
+        long timeStart = System.nanoTime();
+
+        List<String> species = petIndex.speciesOf(NICKNAME_TO_SEARCH);
+
+        PerformanceTracker.recordOperationTime(timeStart, "пошук видів за кличкою в ConcurrentPetIndex");
+
+        out.println("Види тварин з кличкою '" + NICKNAME_TO_SEARCH + "': " + species);
+    }
+
+    /**
+     * Додає новий запис до ConcurrentPetIndex.
+     */
+    void addEntryToIndex() {
+        long timeStart = System.nanoTime();
+
+        petIndex.put(KEY_TO_ADD, VALUE_TO_ADD);
+
+        PerformanceTracker.recordOperationTime(timeStart, "додавання запису до ConcurrentPetIndex");
+
+        out.println("Додано новий запис: Pet='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
+    }
+
+    /**
+     * Видаляє запис з ConcurrentPetIndex за ключем.
+     */
+    void removeByKeyFromIndex() {
+        long timeStart = System.nanoTime();
+
+        String removedValue = petIndex.remove(KEY_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за ключем з ConcurrentPetIndex");
+
+        if (removedValue != null) {
+            out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
+        } else {
+            out.println("Ключ '" + KEY_TO_SEARCH_AND_DELETE + "' не знайдено для видалення.");
+        }
+    }
+
+    // ===== Методи для PetColumnStore =====
+
+    /**
+     * Здійснює пошук записів за значенням у PetColumnStore порівнянням кодів власників.
+     */
+    void findByValueInColumnStore() {
+        long timeStart = System.nanoTime();
+
+        int[] ownedRows = petColumnStore.rowsOwnedBy(VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за значенням в PetColumnStore");
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+        if (ownedRows.length > 0) {
+            out.println("Власника '" + VALUE_TO_SEARCH_AND_DELETE + "' знайдено. Pet: " + petColumnStore.petAt(ownedRows[0]));
+        } else {
+            out.println("Власник '" + VALUE_TO_SEARCH_AND_DELETE + "' відсутній в PetColumnStore.");
+        }
+    }
+
+    /**
+     * Підраховує кількість тварин кожного власника в PetColumnStore.
+     */
+    void groupByOwnerInColumnStore() {
+        long timeStart = System.nanoTime();
+
+        Map<String, Integer> countByOwner = petColumnStore.countByOwner();
+
+        PerformanceTracker.recordOperationTime(timeStart, "групування за власником в PetColumnStore");
+
+        out.println("Кількість тварин за власниками: " + countByOwner);
+    }
+
+    /**
+     * Підраховує кількість тварин кожного виду в PetColumnStore.
+     */
+    void groupBySpeciesInColumnStore() {
+        long timeStart = System.nanoTime();
+
+        Map<String, Integer> countBySpecies = petColumnStore.countBySpecies();
+
+        PerformanceTracker.recordOperationTime(timeStart, "групування за видом в PetColumnStore");
+
+        out.println("Кількість тварин за видами: " + countBySpecies);
+    }
+
+    /**
+     * Видаляє з PetColumnStore всі записи власника.
+     */
+    void removeByValueFromColumnStore() {
+        long timeStart = System.nanoTime();
+
+        int removedCount = petColumnStore.removeAllOwnedBy(VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за значенням з PetColumnStore");
+
+        out.println("Видалено " + removedCount + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+    }
+
+    // ===== Пакетне завантаження та видалення =====
+
+    /**
+     * Створює Hashtable із записів, одразу виділяючи місце під усі записи,
+     * щоб уникнути повторних перехешувань під час додавання.
+     * 
+     * @param entries Записи (ключ: Pet, значення: ім'я власника)
+     * @return Hashtable із записами
+     */
+    static Hashtable<Pet, String> buildHashtable(Collection<? extends Map.Entry<Pet, String>> entries) {
+        // Коефіцієнт заповнення Hashtable за замовчуванням - 0.75
+        Hashtable<Pet, String> builtHashtable = new Hashtable<>(Math.max(11, (int) (entries.size() / 0.75f) + 1));
+        for (Map.Entry<Pet, String> entry : entries) {
+            builtHashtable.put(entry.getKey(), entry.getValue());
+        }
+        return builtHashtable;
+    }
+
+    /**
+     * Створює TreeMap з потоку записів, уже впорядкованих за ключами (Pet.compareTo()).
+     * 
+     * Дерево будується знизу вгору за O(n) замість n окремих вставок за O(log n):
+     * TreeMap, створена з SortedMap з тим самим порядком, не порівнює ключі повторно.
+     * 
+     * @param sortedEntries Записи, впорядковані за зростанням ключів, без повторів ключів
+     * @return TreeMap із записами
+     * @throws IllegalArgumentException якщо записи не впорядковані або ключі повторюються
+     */
+    static TreeMap<Pet, String> buildSortedTreeMap(Stream<? extends Map.Entry<Pet, String>> sortedEntries) {
+        return new TreeMap<>(new SortedEntries(sortedEntries));
+    }
+
+    /**
+     * Впорядковує записи за ключами для {@link #buildSortedTreeMap(Stream)}.
+     * Якщо ключ повторюється, залишається останній запис, як після послідовних put().
+     * 
+     * @param entries Записи у порядку надходження
+     * @return Записи, впорядковані за зростанням ключів, без повторів ключів
+     */
+    static List<Map.Entry<Pet, String>> sortByKeyKeepingLast(List<Map.Entry<Pet, String>> entries) {
+        // Паралельне сортування впорядкованого потоку стабільне,
+        // тому записи з однаковим ключем зберігають порядок надходження
+        List<Map.Entry<Pet, String>> sortedEntries = entries.parallelStream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+
+        List<Map.Entry<Pet, String>> uniqueEntries = new ArrayList<>(sortedEntries.size());
+        for (int i = 0; i < sortedEntries.size(); i++) {
+            boolean lastWithKey = i + 1 == sortedEntries.size()
+                    || sortedEntries.get(i).getKey().compareTo(sortedEntries.get(i + 1).getKey()) != 0;
+            if (lastWithKey) {
+                uniqueEntries.add(sortedEntries.get(i));
+            }
+        }
+        return uniqueEntries;
+    }
+
+    private boolean isSpeciesToDelete(Pet pet, String owner) {
+        return pet.getSpecies() != null && pet.getSpecies().startsWith(SPECIES_PREFIX_TO_DELETE);
+    }
+
+    private static int removeAll(Map<Pet, String> map, OwnerIndex ownerIndex,
+            BiPredicate<? super Pet, ? super String> predicate) {
+        int[] removedCount = new int[1];
+        map.entrySet().removeIf(entry -> {
+            if (!predicate.test(entry.getKey(), entry.getValue())) {
+                return false;
+            }
+            ownerIndex.onRemove(entry.getKey(), entry.getValue());
+            removedCount[0]++;
+            return true;
+        });
+        return removedCount[0];
+    }
+
+    /**
+     * Незмінне представлення впорядкованих записів у вигляді SortedMap, з якого TreeMap будується за O(n).
+     * Пошук за ключем і представлення діапазонів subMap, headMap та tailMap працюють
+     * бінарним пошуком по списку записів і спільно використовують той самий список.
+     */
+    private static final class SortedEntries extends AbstractMap<Pet, String> implements SortedMap<Pet, String> {
+        private final List<Map.Entry<Pet, String>> entries;
+        // Межі діапазону представлення: нижня включно, верхня виключно; null - без межі
+        private final Pet lowKey;
+        private final Pet highKey;
+
+        SortedEntries(Stream<? extends Map.Entry<Pet, String>> sortedEntries) {
+            List<Map.Entry<Pet, String>> collectedEntries = new ArrayList<>();
+            sortedEntries.forEachOrdered(entry -> {
+                if (!collectedEntries.isEmpty()) {
+                    Pet previousKey = collectedEntries.get(collectedEntries.size() - 1).getKey();
+                    if (previousKey.compareTo(entry.getKey()) >= 0) {
+                        throw new IllegalArgumentException("Записи не впорядковані за ключем: "
+                                + previousKey + " перед " + entry.getKey());
+                    }
+                }
+                collectedEntries.add(entry);
+            });
+            this.entries = Collections.unmodifiableList(collectedEntries);
+            this.lowKey = null;
+            this.highKey = null;
+        }
+
+        private SortedEntries(List<Map.Entry<Pet, String>> entries, Pet lowKey, Pet highKey) {
+            this.entries = entries;
+            this.lowKey = lowKey;
+            this.highKey = highKey;
+        }
+
+        @Override
+        public Comparator<? super Pet> comparator() {
+            // Природний порядок Pet, як у TreeMap без компаратора
+            return null;
+        }
+
+        @Override
+        public Set<Map.Entry<Pet, String>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<Pet, String>> iterator() {
+                    return entries.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public String get(Object key) {
+            int index = indexOf(key);
+            return index >= 0 ? entries.get(index).getValue() : null;
+        }
+
+        @Override
+        public Pet firstKey() {
+            if (entries.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return entries.get(0).getKey();
+        }
+
+        @Override
+        public Pet lastKey() {
+            if (entries.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return entries.get(entries.size() - 1).getKey();
+        }
+
+        @Override
+        public SortedMap<Pet, String> subMap(Pet fromKey, Pet toKey) {
+            if (fromKey.compareTo(toKey) > 0) {
+                throw new IllegalArgumentException("Початковий ключ " + fromKey + " більший за кінцевий " + toKey);
+            }
+            checkFromKey(fromKey);
+            checkToKey(toKey);
+            return new SortedEntries(entries.subList(lowerBound(fromKey), lowerBound(toKey)), fromKey, toKey);
+        }
+
+        @Override
+        public SortedMap<Pet, String> headMap(Pet toKey) {
+            checkToKey(toKey);
+            return new SortedEntries(entries.subList(0, lowerBound(toKey)), lowKey, toKey);
+        }
+
+        @Override
+        public SortedMap<Pet, String> tailMap(Pet fromKey) {
+            checkFromKey(fromKey);
+            return new SortedEntries(entries.subList(lowerBound(fromKey), entries.size()), fromKey, highKey);
+        }
+
+        /**
+         * Повертає індекс першого запису, ключ якого не менший за вказаний.
+         */
+        private int lowerBound(Pet key) {
+            int low = 0;
+            int high = entries.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (entries.get(middle).getKey().compareTo(key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int indexOf(Object key) {
+            if (!(key instanceof Pet)) {
+                return -1;
+            }
+            Pet pet = (Pet) key;
+            int index = lowerBound(pet);
+            return index < entries.size() && entries.get(index).getKey().compareTo(pet) == 0 ? index : -1;
+        }
+
+        /**
+         * Початковий ключ представлення має лежати в [lowKey, highKey).
+         */
+        private void checkFromKey(Pet fromKey) {
+            if ((lowKey != null && fromKey.compareTo(lowKey) < 0) || (highKey != null && fromKey.compareTo(highKey) >= 0)) {
+                throw new IllegalArgumentException("Ключ " + fromKey + " поза діапазоном представлення");
+            }
+        }
+
+        /**
+         * Кінцевий ключ представлення має лежати в [lowKey, highKey].
+         */
+        private void checkToKey(Pet toKey) {
+            if ((lowKey != null && toKey.compareTo(lowKey) < 0) || (highKey != null && toKey.compareTo(highKey) > 0)) {
+                throw new IllegalArgumentException("Ключ " + toKey + " поза діапазоном представлення");
+            }
+        }
     }
 
     /**
      * Головний метод для запуску програми.
      */
     public static void main(String[] args) {
-        // Створюємо початкові дані (ключ: Pet, значення: ім'я власника)
-        Hashtable<Pet, String> hashtable = new Hashtable<>();
-        hashtable.put(new Pet("Тум", "Сова вухата"), "Андрій");
-        hashtable.put(new Pet("Луна", "Полярна сова"), "Ірина");
-        hashtable.put(new Pet("Барсик", "Сова сіра"), "Олена");
-        hashtable.put(new Pet("Боні", "Сипуха"), "Олена");
-        hashtable.put(new Pet("Тайсон", "Сова болотяна"), "Ірина");
-        hashtable.put(new Pet("Барсик", "Сичик-горобець"), "Андрій");
-        hashtable.put(new Pet("Ґуфі", "Сова болотяна"), "Тимофій");
-        hashtable.put(new Pet("Боні", "Сова яструбина"), "Поліна");
-        hashtable.put(new Pet("Муся", "Сова білолиця"), "Стефанія");
-        hashtable.put(new Pet("Чіпо", "Сичик-хатник"), "Ярослав");
-
-        TreeMap<Pet, String> treeMap = new TreeMap<Pet, String>() {{
-            put(new Pet("Тум", "Сова вухата"), "Андрій");
-            put(new Pet("Луна", "Полярна сова"), "Ірина");
-            put(new Pet("Барсик", "Сова сіра"), "Олена");
-            put(new Pet("Боні", "Сипуха"), "Олена");
-            put(new Pet("Тайсон", "Сова болотяна"), "Ірина");
-            put(new Pet("Барсик", "Сичик-горобець"), "Андрій");
-            put(new Pet("Ґуфі", "Сова болотяна"), "Тимофій");
-            put(new Pet("Боні", "Сова яструбина"), "Поліна");
-            put(new Pet("Муся", "Сова білолиця"), "Стефанія");
-            put(new Pet("Чіпо", "Сичик-хатник"), "Ярослав");
-        }};
+        // Завантажуємо початкові дані (ключ: Pet, значення: ім'я власника) з файлу
+        String petDataFile = args.length > 0 ? args[0] : PATH_TO_PET_DATA_FILE;
+        List<Map.Entry<Pet, String>> pets = DataFileHandler.loadPetEntriesFromFileParallel(petDataFile);
+
+        Hashtable<Pet, String> hashtable = buildHashtable(pets);
+        TreeMap<Pet, String> treeMap = buildSortedTreeMap(sortByKeyKeepingLast(pets).stream());
 
         // Створюємо об'єкт і виконуємо операції
         BasicDataOperationUsingMap operations = new BasicDataOperationUsingMap(hashtable, treeMap);
         operations.executeDataOperations();
+
+        PerformanceTracker.printReport(System.out);
     }
 }
@@ -1,8 +1,15 @@
+import java.io.PrintStream;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.PriorityQueue;
-import java.util.Queue;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Клас BasicDataOperationUsingQueue реалізує роботу з колекціями типу Queue для LocalDate.
@@ -10,30 +17,54 @@ import java.util.Queue;
  * <p>Основні функції класу:</p>
  * <ul>
  *   <li>{@link #runDataProcessing()} - Запускає комплекс операцій з даними.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив LocalDate.</li>
+ *   <li>{@link #performArraySorting()} - Переходить до спільного впорядкованого масиву LocalDate.</li>
  *   <li>{@link #findInArray()} - Пошук значення в масиві LocalDate.</li>
  *   <li>{@link #locateMinMaxInArray()} - Знаходить мінімальне і максимальне значення в масиві.</li>
  *   <li>{@link #findInQueue()} - Пошук значення в черзі LocalDate.</li>
  *   <li>{@link #locateMinMaxInQueue()} - Знаходить граничні значення в черзі.</li>
- *   <li>{@link #performQueueOperations()} - Виконує операції peek і poll з чергою.</li>
+ *   <li>{@link #performQueueOperations()} - Виконує операції peek і poll з обох кінців черги.</li>
+ *   <li>{@link #cancelInQueue()} - Скасовує дату в черзі.</li>
+ *   <li>{@link #runProducerConsumerPipeline()} - Передає дати через обмежену блокуючу чергу кількох потоків
+ *       і перевіряє порядок у пакетах; запускається окремо від runDataProcessing().</li>
  * </ul>
  * 
  */
 public class BasicDataOperationUsingQueue {
+    static final int PIPELINE_PRODUCER_COUNT = 2;
+    static final int PIPELINE_CONSUMER_COUNT = 2;
+    static final int PIPELINE_CAPACITY = 64;
+    static final int PIPELINE_BATCH_SIZE = 16;
+    private static final long PIPELINE_POLL_TIMEOUT_MILLIS = 10;
+
     private LocalDate localDateValueToSearch;
-    private LocalDate[] dateTimeArray;
-    private Queue<LocalDate> dateTimeQueue;
+    private final PreparedDataset preparedDataset;
+    private final PrintStream out;
+    private DateColumn dateTimeColumn;
+    private MinMaxPriorityQueue<LocalDate> dateTimeQueue;
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
+     * 
+     * @param localDateValueToSearch Значення для пошуку
+     * @param preparedDataset Спільний підготовлений набір дат
+     */
+    BasicDataOperationUsingQueue(LocalDate localDateValueToSearch, PreparedDataset preparedDataset) {
+        this(localDateValueToSearch, preparedDataset, System.out);
+    }
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
      * @param localDateValueToSearch Значення для пошуку
-     * @param dateTimeArray Масив LocalDate
+     * @param preparedDataset Спільний підготовлений набір дат
+     * @param out Потік для виводу результатів
      */
-    BasicDataOperationUsingQueue(LocalDate localDateValueToSearch, LocalDate[] dateTimeArray) {
+    BasicDataOperationUsingQueue(LocalDate localDateValueToSearch, PreparedDataset preparedDataset, PrintStream out) {
+        this.out = out;
         this.localDateValueToSearch = localDateValueToSearch;
-        this.dateTimeArray = dateTimeArray;
-        this.dateTimeQueue = new PriorityQueue<>(Arrays.asList(dateTimeArray));
+        this.preparedDataset = preparedDataset;
+        this.dateTimeColumn = preparedDataset.getLoadOrderColumn();
+        this.dateTimeQueue = new MinMaxPriorityQueue<>(dateTimeColumn.asList());
     }
     
     /**
@@ -46,6 +77,7 @@ public class BasicDataOperationUsingQueue {
         findInQueue();
         locateMinMaxInQueue();
         performQueueOperations();
+        cancelInQueue();
 
         // потім працюємо з масивом
         findInArray();
@@ -55,127 +87,246 @@ public class BasicDataOperationUsingQueue {
 
         findInArray();
         locateMinMaxInArray();
-
-        // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(dateTimeArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
     }
 
     /**
-     * Сортує масив об'єктiв LocalDate та виводить початковий i вiдсортований масиви.
-     * Вимiрює та виводить час, витрачений на сортування масиву в наносекундах.
+     * Переходить від масиву в порядку завантаження до спільного впорядкованого масиву.
+     * Сортування виконується і вимірюється один раз у PreparedDataset, тому тут лише змінюється посилання.
      */
-    private void performArraySorting() {
-        // вимірюємо тривалість упорядкування масиву дати та часу
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(dateTimeArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+    void performArraySorting() {
+        dateTimeColumn = preparedDataset.getSortedColumn();
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
-    private void findInArray() {
+    void findInArray() {
         // відстежуємо час виконання пошуку в масиві
         long timeStart = System.nanoTime();
         
-        int position = Arrays.binarySearch(this.dateTimeArray, localDateValueToSearch);
+        int position = this.dateTimeColumn.binarySearch(localDateValueToSearch);
         
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в масивi дати i часу");
 
         if (position >= 0) {
-            System.out.println("Елемент '" + localDateValueToSearch + "' знайдено в масивi за позицією: " + position);
+            out.println("Елемент '" + localDateValueToSearch + "' знайдено в масивi за позицією: " + position);
         } else {
-            System.out.println("Елемент '" + localDateValueToSearch + "' відсутній в масиві.");
+            out.println("Елемент '" + localDateValueToSearch + "' відсутній в масиві.");
         }
     }
 
     /**
      * Визначає найменше та найбільше значення в масиві LocalDate.
      */
-    private void locateMinMaxInArray() {
-        if (dateTimeArray == null || dateTimeArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+    void locateMinMaxInArray() {
+        if (dateTimeColumn == null || dateTimeColumn.isEmpty()) {
+            out.println("Масив є пустим або не ініціалізованим.");
             return;
         }
 
         // відстежуємо час на визначення граничних значень
         long timeStart = System.nanoTime();
 
-        LocalDate minValue = dateTimeArray[0];
-        LocalDate maxValue = dateTimeArray[0];
+        DateColumn.Bounds bounds = dateTimeColumn.bounds();
 
-        for (LocalDate currentDateTime : dateTimeArray) {
-            if (currentDateTime.isBefore(minValue)) {
-                minValue = currentDateTime;
-            }
-            if (currentDateTime.isAfter(maxValue)) {
-                maxValue = currentDateTime;
-            }
-        }
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
-
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        out.println("Найменше значення в масивi: " + bounds.getMin());
+        out.println("Найбільше значення в масивi: " + bounds.getMax());
     }
 
     /**
      * Здійснює пошук конкретного значення в черзі дати та часу.
+     * Черга має хеш-індекс елементів, тому пошук коштує O(1).
      */
-    private void findInQueue() {
+    void findInQueue() {
         // вимірюємо час пошуку в черзі
         long timeStart = System.nanoTime();
 
         boolean elementExists = this.dateTimeQueue.contains(localDateValueToSearch);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в Queue дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в Queue дати i часу");
 
         if (elementExists) {
-            System.out.println("Елемент '" + localDateValueToSearch + "' знайдено в Queue");
+            out.println("Елемент '" + localDateValueToSearch + "' знайдено в Queue");
         } else {
-            System.out.println("Елемент '" + localDateValueToSearch + "' відсутній в Queue.");
+            out.println("Елемент '" + localDateValueToSearch + "' відсутній в Queue.");
         }
     }
 
     /**
      * Визначає найменше та найбільше значення в черзі LocalDate.
+     * Min-max купа зберігає обидва граничні значення на вершині, тому пошук коштує O(1).
      */
-    private void locateMinMaxInQueue() {
+    void locateMinMaxInQueue() {
         if (dateTimeQueue == null || dateTimeQueue.isEmpty()) {
-            System.out.println("Черга є пустою або не ініціалізованою.");
+            out.println("Черга є пустою або не ініціалізованою.");
             return;
         }
 
         // відстежуємо час пошуку граничних значень
         long timeStart = System.nanoTime();
 
-        LocalDate minValue = Collections.min(dateTimeQueue);
-        LocalDate maxValue = Collections.max(dateTimeQueue);
+        LocalDate minValue = dateTimeQueue.peekFirst();
+        LocalDate maxValue = dateTimeQueue.peekLast();
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Queue");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Queue");
 
-        System.out.println("Найменше значення в Queue: " + minValue);
-        System.out.println("Найбільше значення в Queue: " + maxValue);
+        out.println("Найменше значення в Queue: " + minValue);
+        out.println("Найбільше значення в Queue: " + maxValue);
     }
 
     /**
-     * Виконує операції peek і poll з чергою LocalDate.
+     * Виконує операції peek і poll з обох кінців черги LocalDate:
+     * найраніша дата обробляється першою, найпізніша - витісняється.
      */
-    private void performQueueOperations() {
+    void performQueueOperations() {
         if (dateTimeQueue == null || dateTimeQueue.isEmpty()) {
-            System.out.println("Черга є пустою або не ініціалізованою.");
+            out.println("Черга є пустою або не ініціалізованою.");
             return;
         }
 
         LocalDate headElement = dateTimeQueue.peek();
-        System.out.println("Головний елемент черги (peek): " + headElement);
+        out.println("Головний елемент черги (peek): " + headElement);
 
         headElement = dateTimeQueue.poll();
-        System.out.println("Видалений елемент черги (poll): " + headElement);
+        out.println("Видалений елемент черги (poll): " + headElement);
 
         headElement = dateTimeQueue.peek();
-        System.out.println("Новий головний елемент черги: " + headElement);
+        out.println("Новий головний елемент черги: " + headElement);
+
+        LocalDate tailElement = dateTimeQueue.peekLast();
+        out.println("Останній елемент черги (peekLast): " + tailElement);
+
+        tailElement = dateTimeQueue.pollLast();
+        out.println("Видалений останній елемент черги (pollLast): " + tailElement);
+
+        tailElement = dateTimeQueue.peekLast();
+        out.println("Новий останній елемент черги: " + tailElement);
+    }
+
+    /**
+     * Скасовує одне входження шуканої дати в черзі. Позиція дати береться з хеш-індексу,
+     * тому видалення коштує O(log n) замість лінійного пошуку.
+     */
+    void cancelInQueue() {
+        // вимірюємо час видалення довільного елемента з черги
+        long timeStart = System.nanoTime();
+
+        boolean cancelled = dateTimeQueue.remove(localDateValueToSearch);
+
+        PerformanceTracker.recordOperationTime(timeStart, "скасування дати в Queue");
+
+        if (cancelled) {
+            out.println("Дату '" + localDateValueToSearch + "' скасовано в Queue. Залишилось елементів: " + dateTimeQueue.size());
+        } else {
+            out.println("Дата '" + localDateValueToSearch + "' відсутня в Queue, скасовувати нічого.");
+        }
+    }
+
+    /**
+     * Передає всі дати масиву через обмежену ConcurrentDatePriorityQueue:
+     * виробники додають свої частини масиву, споживачі забирають найраніші дати пакетами
+     * через drainTo, а коли черга порожня - чекають на нову дату з обмеженим часом очікування.
+     * Споживачі перевіряють, що дати в кожному пакеті йдуть за зростанням, і записують отримані
+     * дні від епохи; після завершення вони впорядковуються й порівнюються з впорядкованим масивом,
+     * тому будь-яка втрата, повтор чи підміна дати помітні.
+     *
+     * <p>Перша помилка будь-якого потоку зупиняє конвеєр: решта потоків переривається,
+     * тож виробники не лишаються заблокованими в put, а споживачі - в очікуванні дат.</p>
+     *
+     * <p>Конвеєр створює власні потоки, тому не входить до {@link #runDataProcessing()}
+     * і запускається окремо за бажанням.</p>
+     */
+    void runProducerConsumerPipeline() {
+        ConcurrentDatePriorityQueue pipelineQueue = new ConcurrentDatePriorityQueue(PIPELINE_CAPACITY);
+        int totalCount = dateTimeColumn.size();
+        int[] consumedDays = new int[totalCount];
+        AtomicInteger processedCount = new AtomicInteger();
+
+        // вимірюємо час передачі всіх дат від виробників до споживачів
+        long timeStart = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(PIPELINE_PRODUCER_COUNT + PIPELINE_CONSUMER_COUNT);
+        try {
+            CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+            for (int i = 0; i < PIPELINE_CONSUMER_COUNT; i++) {
+                completionService.submit(() -> consumeDates(pipelineQueue, consumedDays, processedCount));
+            }
+            for (int i = 0; i < PIPELINE_PRODUCER_COUNT; i++) {
+                int from = (int) ((long) totalCount * i / PIPELINE_PRODUCER_COUNT);
+                int to = (int) ((long) totalCount * (i + 1) / PIPELINE_PRODUCER_COUNT);
+                completionService.submit(() -> produceDates(pipelineQueue, from, to));
+            }
+
+            // Чекаємо потоки в порядку завершення, щоб перша ж помилка зупинила решту
+            for (int i = 0; i < PIPELINE_PRODUCER_COUNT + PIPELINE_CONSUMER_COUNT; i++) {
+                completionService.take().get();
+            }
+
+            PerformanceTracker.recordOperationTime(timeStart, "передача дат через ConcurrentDatePriorityQueue");
+
+            out.println("Конвеєр черги: " + PIPELINE_PRODUCER_COUNT + " виробники, " + PIPELINE_CONSUMER_COUNT
+                    + " споживачі, місткість " + PIPELINE_CAPACITY + ", оброблено дат: " + processedCount.get()
+                    + " з " + totalCount);
+            DateSortEngine.sort(consumedDays);
+            if (processedCount.get() == totalCount
+                    && Arrays.equals(consumedDays, preparedDataset.getSortedColumn().toEpochDayArray())) {
+                out.println("Конвеєр черги: дати в кожному пакеті впорядковані, отримано всі дати без повторів.");
+            } else {
+                out.println("❌ Конвеєр черги: отримані дати не збігаються з масивом");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            out.println("❌ Конвеєр черги перервано");
+        } catch (ExecutionException e) {
+            out.println("❌ Помилка в конвеєрі черги: " + e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Void produceDates(ConcurrentDatePriorityQueue pipelineQueue, int from, int to) throws InterruptedException {
+        for (int i = from; i < to; i++) {
+            pipelineQueue.put(dateTimeColumn.get(i));
+        }
+        return null;
+    }
+
+    /**
+     * Забирає дати з черги, доки всі споживачі разом не заповнять consumedDays, і записує
+     * їхні дні від епохи у зарезервовані для пакета комірки. Зупиняється, якщо потік перервано.
+     *
+     * @throws IllegalStateException якщо дати в пакеті не впорядковані за зростанням
+     *         або отримано більше дат, ніж передано
+     */
+    private static Void consumeDates(ConcurrentDatePriorityQueue pipelineQueue, int[] consumedDays,
+            AtomicInteger processedCount) throws InterruptedException {
+        List<LocalDate> batch = new ArrayList<>(PIPELINE_BATCH_SIZE);
+        while (processedCount.get() < consumedDays.length && !Thread.currentThread().isInterrupted()) {
+            batch.clear();
+            if (pipelineQueue.drainTo(batch, PIPELINE_BATCH_SIZE) == 0) {
+                LocalDate date = pipelineQueue.poll(PIPELINE_POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (date == null) {
+                    continue;
+                }
+                batch.add(date);
+            }
+
+            for (int i = 1; i < batch.size(); i++) {
+                if (batch.get(i - 1).isAfter(batch.get(i))) {
+                    throw new IllegalStateException("Дати в пакеті не впорядковані: "
+                            + batch.get(i - 1) + " перед " + batch.get(i));
+                }
+            }
+            int offset = processedCount.getAndAdd(batch.size());
+            if (offset > consumedDays.length - batch.size()) {
+                throw new IllegalStateException("Отримано більше дат, ніж передано: " + (offset + batch.size()));
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                consumedDays[offset + i] = (int) batch.get(i).toEpochDay();
+            }
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
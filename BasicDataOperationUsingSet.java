@@ -1,17 +1,14 @@
+import java.io.PrintStream;
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
 /**
- * Клас BasicDataOperationUsingSet реалізує операції з множиною HashSet для LocalDate.
+ * Клас BasicDataOperationUsingSet реалізує операції з множиною LocalDate.
+ * Множина зберігається як EpochDayBitmapSet - стиснена бітова карта днів від епохи.
  * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataAnalysis()} - Запускає аналіз даних.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив LocalDate.</li>
+ *   <li>{@link #performArraySorting()} - Переходить до спільного впорядкованого масиву LocalDate.</li>
  *   <li>{@link #findInArray()} - Пошук значення в масиві LocalDate.</li>
  *   <li>{@link #locateMinMaxInArray()} - Знаходить граничні значення в масиві.</li>
  *   <li>{@link #findInSet()} - Пошук значення в множині LocalDate.</li>
@@ -21,23 +18,38 @@ import java.util.Set;
  */
 public class BasicDataOperationUsingSet {
     LocalDate localDateValueToSearch;
-    LocalDate[] dateTimeArray;
-    Set<LocalDate> dateTimeSet = new LinkedHashSet<>();
+    final PreparedDataset preparedDataset;
+    private final PrintStream out;
+    DateColumn dateTimeColumn;
+    EpochDayBitmapSet dateTimeSet;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
      * @param localDateValueToSearch Значення для пошуку
-     * @param dateTimeArray Масив LocalDate
+     * @param preparedDataset Спільний підготовлений набір дат
      */
-    BasicDataOperationUsingSet(LocalDate localDateValueToSearch, LocalDate[] dateTimeArray) {
+    BasicDataOperationUsingSet(LocalDate localDateValueToSearch, PreparedDataset preparedDataset) {
+        this(localDateValueToSearch, preparedDataset, System.out);
+    }
+
+    /**
+     * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
+     * 
+     * @param localDateValueToSearch Значення для пошуку
+     * @param preparedDataset Спільний підготовлений набір дат
+     * @param out Потік для виводу результатів
+     */
+    BasicDataOperationUsingSet(LocalDate localDateValueToSearch, PreparedDataset preparedDataset, PrintStream out) {
+        this.out = out;
         this.localDateValueToSearch = localDateValueToSearch;
-        this.dateTimeArray = dateTimeArray;
-        this.dateTimeSet = new HashSet<>(Arrays.asList(dateTimeArray));
+        this.preparedDataset = preparedDataset;
+        this.dateTimeColumn = preparedDataset.getLoadOrderColumn();
+        this.dateTimeSet = EpochDayBitmapSet.of(dateTimeColumn);
     }
     
     /**
-     * Запускає комплексний аналіз даних з використанням множини HashSet.
+     * Запускає комплексний аналіз даних з використанням множини.
      * 
      * Метод завантажує дані, виконує операції з множиною та масивом LocalDate.
      */
@@ -55,125 +67,110 @@ public class BasicDataOperationUsingSet {
 
         findInArray();
         locateMinMaxInArray();
-
-        // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(dateTimeArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
     }
 
     /**
-     * Упорядковує масив об'єктів LocalDate за зростанням.
-     * Фіксує та виводить тривалість операції сортування в наносекундах.
+     * Переходить від масиву в порядку завантаження до спільного впорядкованого масиву.
+     * Сортування виконується і вимірюється один раз у PreparedDataset, тому тут лише змінюється посилання.
      */
-    private void performArraySorting() {
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(dateTimeArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+    void performArraySorting() {
+        dateTimeColumn = preparedDataset.getSortedColumn();
     }
 
     /**
      * Здійснює пошук конкретного значення в масиві дати та часу.
      */
-    private void findInArray() {
+    void findInArray() {
         long timeStart = System.nanoTime();
 
-        int position = Arrays.binarySearch(this.dateTimeArray, localDateValueToSearch);
+        int position = this.dateTimeColumn.binarySearch(localDateValueToSearch);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в масивi дати i часу");
 
         if (position >= 0) {
-            System.out.println("Елемент '" + localDateValueToSearch + "' знайдено в масивi за позицією: " + position);
+            out.println("Елемент '" + localDateValueToSearch + "' знайдено в масивi за позицією: " + position);
         } else {
-            System.out.println("Елемент '" + localDateValueToSearch + "' відсутній в масиві.");
+            out.println("Елемент '" + localDateValueToSearch + "' відсутній в масиві.");
         }
     }
 
     /**
      * Визначає найменше та найбільше значення в масиві LocalDate.
      */
-    private void locateMinMaxInArray() {
-        if (dateTimeArray == null || dateTimeArray.length == 0) {
-            System.out.println("Масив є пустим або не ініціалізованим.");
+    void locateMinMaxInArray() {
+        if (dateTimeColumn == null || dateTimeColumn.isEmpty()) {
+            out.println("Масив є пустим або не ініціалізованим.");
             return;
         }
 
         long timeStart = System.nanoTime();
 
-        LocalDate minValue = dateTimeArray[0];
-        LocalDate maxValue = dateTimeArray[0];
-
-        for (LocalDate currentDateTime : dateTimeArray) {
-            if (currentDateTime.isBefore(minValue)) {
-                minValue = currentDateTime;
-            }
-            if (currentDateTime.isAfter(maxValue)) {
-                maxValue = currentDateTime;
-            }
-        }
+        DateColumn.Bounds bounds = dateTimeColumn.bounds();
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
 
-        System.out.println("Найменше значення в масивi: " + minValue);
-        System.out.println("Найбільше значення в масивi: " + maxValue);
+        out.println("Найменше значення в масивi: " + bounds.getMin());
+        out.println("Найбільше значення в масивi: " + bounds.getMax());
     }
 
     /**
      * Здійснює пошук конкретного значення в множині дати та часу.
+     * Пошук перевіряє один біт у блоці дати без обчислення хешу об'єкта.
      */
-    private void findInSet() {
+    void findInSet() {
         long timeStart = System.nanoTime();
 
         boolean elementExists = this.dateTimeSet.contains(localDateValueToSearch);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в HashSet дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в Set дати i часу");
 
         if (elementExists) {
-            System.out.println("Елемент '" + localDateValueToSearch + "' знайдено в HashSet");
+            out.println("Елемент '" + localDateValueToSearch + "' знайдено в Set");
         } else {
-            System.out.println("Елемент '" + localDateValueToSearch + "' відсутній в HashSet.");
+            out.println("Елемент '" + localDateValueToSearch + "' відсутній в Set.");
         }
     }
 
     /**
      * Визначає найменше та найбільше значення в множині LocalDate.
+     * Бітова карта впорядкована, тому це перший і останній встановлені біти - O(1).
      */
-    private void locateMinMaxInSet() {
+    void locateMinMaxInSet() {
         if (dateTimeSet == null || dateTimeSet.isEmpty()) {
-            System.out.println("HashSet є пустим або не ініціалізованим.");
+            out.println("Set є пустим або не ініціалізованим.");
             return;
         }
 
         long timeStart = System.nanoTime();
 
-        LocalDate minValue = Collections.min(dateTimeSet);
-        LocalDate maxValue = Collections.max(dateTimeSet);
+        LocalDate minValue = dateTimeSet.first();
+        LocalDate maxValue = dateTimeSet.last();
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в HashSet");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Set");
 
-        System.out.println("Найменше значення в HashSet: " + minValue);
-        System.out.println("Найбільше значення в HashSet: " + maxValue);
+        out.println("Найменше значення в Set: " + minValue);
+        out.println("Найбільше значення в Set: " + maxValue);
     }
 
     /**
      * Аналізує та порівнює елементи масиву та множини.
      */
-    private void analyzeArrayAndSet() {
-        System.out.println("Кiлькiсть елементiв в масивi: " + dateTimeArray.length);
-        System.out.println("Кiлькiсть елементiв в HashSet: " + dateTimeSet.size());
+    void analyzeArrayAndSet() {
+        out.println("Кiлькiсть елементiв в масивi: " + dateTimeColumn.size());
+        out.println("Кiлькiсть елементiв в Set: " + dateTimeSet.size());
 
         boolean allElementsPresent = true;
-        for (LocalDate dateTimeElement : dateTimeArray) {
-            if (!dateTimeSet.contains(dateTimeElement)) {
+        for (int i = 0; i < dateTimeColumn.size(); i++) {
+            if (!dateTimeSet.containsEpochDay(dateTimeColumn.epochDayAt(i))) {
                 allElementsPresent = false;
                 break;
             }
         }
 
         if (allElementsPresent) {
-            System.out.println("Всi елементи масиву наявні в HashSet.");
+            out.println("Всi елементи масиву наявні в Set.");
         } else {
-            System.out.println("Не всi елементи масиву наявні в HashSet.");
+            out.println("Не всi елементи масиву наявні в Set.");
         }
     }
 }
\ No newline at end of file
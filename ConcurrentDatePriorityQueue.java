@@ -0,0 +1,274 @@
+import java.time.LocalDate;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Клас ConcurrentDatePriorityQueue - обмежена блокуюча черга дат з пріоритетом для кількох
+ * виробників і кількох споживачів. Першою завжди видається найраніша дата.
+ *
+ * <p>Записи зберігаються в ConcurrentSkipListSet, тому додавання та видалення найменшого
+ * виконуються без блокувань і не заважають одне одному, на відміну від PriorityBlockingQueue
+ * з одним замком на всю купу. Кожен запис отримує порядковий номер, тому однакові дати
+ * зберігаються окремо і видаються в порядку додавання.</p>
+ *
+ * <p>Місткість і наявність елементів відстежують два семафори: потік спочатку бере дозвіл
+ * (вільне місце або готовий елемент), а потім змінює множину. Блокуються лише потоки,
+ * яким немає місця або немає елементів.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #offer(LocalDate)}, {@link #offer(LocalDate, long, TimeUnit)}, {@link #put(LocalDate)} - Додають дату.</li>
+ *   <li>{@link #poll()}, {@link #poll(long, TimeUnit)}, {@link #take()} - Видаляють найранішу дату.</li>
+ *   <li>{@link #drainTo(Collection, int)} - Переносить кілька найраніших дат у колекцію.</li>
+ * </ul>
+ */
+public class ConcurrentDatePriorityQueue extends AbstractQueue<LocalDate> implements BlockingQueue<LocalDate> {
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>();
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final int capacity;
+    // Кількість вільних місць та кількість елементів, які вже можна забрати
+    private final Semaphore spaces;
+    private final Semaphore items = new Semaphore(0);
+
+    /**
+     * Створює чергу з указаною місткістю.
+     *
+     * @param capacity Найбільша кількість дат у черзі
+     */
+    public ConcurrentDatePriorityQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Місткість черги має бути додатною: " + capacity);
+        }
+        this.capacity = capacity;
+        this.spaces = new Semaphore(capacity);
+    }
+
+    /**
+     * Додає дату, якщо є вільне місце.
+     *
+     * @return false, якщо черга заповнена
+     */
+    @Override
+    public boolean offer(LocalDate date) {
+        Objects.requireNonNull(date);
+        if (!spaces.tryAcquire()) {
+            return false;
+        }
+        insert(date);
+        return true;
+    }
+
+    /**
+     * Додає дату, очікуючи на вільне місце не довше за указаний час.
+     *
+     * @return false, якщо місце так і не звільнилося
+     */
+    @Override
+    public boolean offer(LocalDate date, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(date);
+        if (!spaces.tryAcquire(timeout, unit)) {
+            return false;
+        }
+        insert(date);
+        return true;
+    }
+
+    /**
+     * Додає дату, очікуючи на вільне місце скільки завгодно.
+     */
+    @Override
+    public void put(LocalDate date) throws InterruptedException {
+        Objects.requireNonNull(date);
+        spaces.acquire();
+        insert(date);
+    }
+
+    /**
+     * Видаляє та повертає найранішу дату або null, якщо черга порожня.
+     */
+    @Override
+    public LocalDate poll() {
+        return items.tryAcquire() ? removeFirst() : null;
+    }
+
+    /**
+     * Видаляє та повертає найранішу дату, очікуючи на неї не довше за указаний час.
+     *
+     * @return Дата або null, якщо час очікування вичерпано
+     */
+    @Override
+    public LocalDate poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return items.tryAcquire(timeout, unit) ? removeFirst() : null;
+    }
+
+    /**
+     * Видаляє та повертає найранішу дату, очікуючи на неї скільки завгодно.
+     */
+    @Override
+    public LocalDate take() throws InterruptedException {
+        items.acquire();
+        return removeFirst();
+    }
+
+    @Override
+    public LocalDate peek() {
+        // ceiling не кидає виняток, якщо інший потік щойно спорожнив множину
+        Entry first = entries.ceiling(Entry.MIN);
+        return first != null ? first.date : null;
+    }
+
+    /**
+     * Видаляє одне входження дати. Коштує O(log n).
+     */
+    @Override
+    public boolean remove(Object element) {
+        if (!(element instanceof LocalDate date) || !items.tryAcquire()) {
+            return false;
+        }
+        Entry removed = entries.subSet(Entry.lowerBound(date), true, Entry.upperBound(date), true).pollFirst();
+        if (removed == null) {
+            items.release();
+            return false;
+        }
+        spaces.release();
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return element instanceof LocalDate date
+                && !entries.subSet(Entry.lowerBound(date), true, Entry.upperBound(date), true).isEmpty();
+    }
+
+    @Override
+    public int drainTo(Collection<? super LocalDate> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Переносить у колекцію до maxElements найраніших дат, не очікуючи нових. Дати спочатку
+     * забираються з черги, а потім додаються до колекції в порядку зростання, навіть якщо під час
+     * перенесення виробники додавали раніші дати. Звільнені місця повертаються виробникам одним викликом.
+     * Якщо колекція відхиляє дату винятком, ця і наступні дати повертаються в чергу.
+     *
+     * @return Кількість перенесених дат
+     */
+    @Override
+    public int drainTo(Collection<? super LocalDate> target, int maxElements) {
+        Objects.requireNonNull(target);
+        if (target == this) {
+            throw new IllegalArgumentException("Неможливо перенести чергу саму в себе");
+        }
+        List<Entry> drainedEntries = new ArrayList<>(Math.max(0, Math.min(maxElements, capacity)));
+        while (drainedEntries.size() < maxElements && items.tryAcquire()) {
+            drainedEntries.add(entries.pollFirst());
+        }
+        drainedEntries.sort(null);
+
+        int addedCount = 0;
+        try {
+            for (Entry entry : drainedEntries) {
+                target.add(entry.date);
+                addedCount++;
+            }
+        } finally {
+            for (int i = addedCount; i < drainedEntries.size(); i++) {
+                entries.add(drainedEntries.get(i));
+            }
+            items.release(drainedEntries.size() - addedCount);
+            spaces.release(addedCount);
+        }
+        return addedCount;
+    }
+
+    /**
+     * Повертає кількість дат, які можна забрати. Під час одночасних змін значення наближене.
+     */
+    @Override
+    public int size() {
+        return items.availablePermits();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return spaces.availablePermits();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Повертає слабко узгоджений ітератор у порядку зростання дат. Видалення не підтримується.
+     */
+    @Override
+    public Iterator<LocalDate> iterator() {
+        Iterator<Entry> entryIterator = entries.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entryIterator.hasNext();
+            }
+
+            @Override
+            public LocalDate next() {
+                return entryIterator.next().date;
+            }
+        };
+    }
+
+    private void insert(LocalDate date) {
+        entries.add(new Entry(date, nextSequence.getAndIncrement()));
+        items.release();
+    }
+
+    /**
+     * Видаляє найменший запис. Викликається лише після отримання дозволу items,
+     * тому в множині гарантовано є запис.
+     */
+    private LocalDate removeFirst() {
+        Entry first = entries.pollFirst();
+        spaces.release();
+        return first.date;
+    }
+
+    /**
+     * Запис черги: дата та порядковий номер додавання.
+     */
+    private static final class Entry implements Comparable<Entry> {
+        static final Entry MIN = new Entry(LocalDate.MIN, Long.MIN_VALUE);
+
+        final LocalDate date;
+        final long epochDay;
+        final long sequence;
+
+        Entry(LocalDate date, long sequence) {
+            this.date = date;
+            this.epochDay = date.toEpochDay();
+            this.sequence = sequence;
+        }
+
+        static Entry lowerBound(LocalDate date) {
+            return new Entry(date, Long.MIN_VALUE);
+        }
+
+        static Entry upperBound(LocalDate date) {
+            return new Entry(date, Long.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int dayComparison = Long.compare(epochDay, other.epochDay);
+            return dayComparison != 0 ? dayComparison : Long.compare(sequence, other.sequence);
+        }
+    }
+}
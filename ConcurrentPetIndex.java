@@ -0,0 +1,167 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Клас ConcurrentPetIndex - впорядкований за Pet.compareTo() індекс тварин для одночасного доступу.
+ *
+ * <p>Записи зберігаються в ConcurrentSkipListMap, тому пошук, додавання, видалення та
+ * запити за діапазоном виконуються без блокувань. Запити за діапазоном повертають
+ * представлення, які слабко узгоджені: вони не кидають ConcurrentModificationException
+ * і відображають зміни, що відбуваються під час обходу.</p>
+ *
+ * <p>Порядок ключів збігається з TreeMap: кличка за зростанням, потім вид за спаданням.
+ * Тому всі тварини з однією кличкою або з кличками з одним префіксом займають
+ * неперервний діапазон, межі якого задаються службовими ключами.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #get(BasicDataOperationUsingMap.Pet)} - Повертає власника тварини.</li>
+ *   <li>{@link #put(BasicDataOperationUsingMap.Pet, String)} - Додає або змінює запис.</li>
+ *   <li>{@link #remove(BasicDataOperationUsingMap.Pet)} - Видаляє запис за ключем.</li>
+ *   <li>{@link #withNickname(String)} - Повертає всі записи з указаною кличкою.</li>
+ *   <li>{@link #withNicknamePrefix(String)} - Повертає всі записи, клички яких починаються з префікса.</li>
+ *   <li>{@link #speciesOf(String)} - Повертає всі види тварин з указаною кличкою.</li>
+ * </ul>
+ */
+public class ConcurrentPetIndex {
+    // Службовий вид, що впорядковується перед будь-яким видом тієї самої клички.
+    // Порівнюється за посиланням, тому не збігається з жодним справжнім видом.
+    private static final String FIRST_SPECIES_MARKER = new String("");
+
+    private static final Comparator<BasicDataOperationUsingMap.Pet> PET_ORDER = (first, second) -> {
+        boolean firstIsBound = first.getSpecies() == FIRST_SPECIES_MARKER;
+        boolean secondIsBound = second.getSpecies() == FIRST_SPECIES_MARKER;
+        if (!firstIsBound && !secondIsBound) {
+            return first.compareTo(second);
+        }
+        int nicknameComparison = compareNicknames(first.getNickname(), second.getNickname());
+        if (nicknameComparison != 0) {
+            return nicknameComparison;
+        }
+        return Boolean.compare(secondIsBound, firstIsBound);
+    };
+
+    private final ConcurrentSkipListMap<BasicDataOperationUsingMap.Pet, String> pets =
+            new ConcurrentSkipListMap<>(PET_ORDER);
+
+    public ConcurrentPetIndex() {
+    }
+
+    /**
+     * Створює індекс із вмістом Map.
+     *
+     * @param source Map з ключами Pet та іменами власників
+     */
+    public ConcurrentPetIndex(Map<BasicDataOperationUsingMap.Pet, String> source) {
+        pets.putAll(source);
+    }
+
+    public String get(BasicDataOperationUsingMap.Pet pet) {
+        return pets.get(pet);
+    }
+
+    public boolean containsKey(BasicDataOperationUsingMap.Pet pet) {
+        return pets.containsKey(pet);
+    }
+
+    /**
+     * Повертає кількість записів. На відміну від TreeMap, обчислюється обходом усього індексу.
+     */
+    public int size() {
+        return pets.size();
+    }
+
+    /**
+     * @return Попередній власник або null, якщо тварини не було
+     */
+    public String put(BasicDataOperationUsingMap.Pet pet, String owner) {
+        return pets.put(pet, Objects.requireNonNull(owner));
+    }
+
+    /**
+     * @return Поточний власник, якщо тварина вже є, або null, якщо запис додано
+     */
+    public String putIfAbsent(BasicDataOperationUsingMap.Pet pet, String owner) {
+        return pets.putIfAbsent(pet, Objects.requireNonNull(owner));
+    }
+
+    /**
+     * @return Власник видаленої тварини або null, якщо її не було
+     */
+    public String remove(BasicDataOperationUsingMap.Pet pet) {
+        return pets.remove(pet);
+    }
+
+    /**
+     * Повертає представлення всіх записів з указаною кличкою (види за спаданням).
+     * Коштує O(log n) на пошук початку діапазону.
+     *
+     * @param nickname Кличка тварини
+     * @return Представлення частини індексу
+     */
+    public ConcurrentNavigableMap<BasicDataOperationUsingMap.Pet, String> withNickname(String nickname) {
+        Objects.requireNonNull(nickname);
+        // Pet без виду - останній ключ клички, оскільки null впорядковується в кінці
+        return pets.subMap(lowerBound(nickname), true, new BasicDataOperationUsingMap.Pet(nickname), true);
+    }
+
+    /**
+     * Повертає представлення всіх записів, клички яких починаються з префікса.
+     *
+     * @param prefix Префікс клички
+     * @return Представлення частини індексу
+     */
+    public ConcurrentNavigableMap<BasicDataOperationUsingMap.Pet, String> withNicknamePrefix(String prefix) {
+        Objects.requireNonNull(prefix);
+        String upperNickname = prefixUpperBound(prefix);
+        if (upperNickname == null) {
+            return pets.tailMap(lowerBound(prefix), true);
+        }
+        return pets.subMap(lowerBound(prefix), true, lowerBound(upperNickname), false);
+    }
+
+    /**
+     * Повертає види всіх тварин з указаною кличкою у порядку індексу (за спаданням).
+     *
+     * @param nickname Кличка тварини
+     * @return Список видів
+     */
+    public List<String> speciesOf(String nickname) {
+        List<String> species = new ArrayList<>();
+        for (BasicDataOperationUsingMap.Pet pet : withNickname(nickname).keySet()) {
+            species.add(pet.getSpecies());
+        }
+        return species;
+    }
+
+    private static BasicDataOperationUsingMap.Pet lowerBound(String nickname) {
+        return new BasicDataOperationUsingMap.Pet(nickname, FIRST_SPECIES_MARKER);
+    }
+
+    /**
+     * Повертає найменший рядок, більший за всі рядки з указаним префіксом,
+     * або null, якщо такого рядка немає (префікс складається лише з символів Character.MAX_VALUE).
+     */
+    private static String prefixUpperBound(String prefix) {
+        int end = prefix.length();
+        while (end > 0 && prefix.charAt(end - 1) == Character.MAX_VALUE) {
+            end--;
+        }
+        if (end == 0) {
+            return null;
+        }
+        return prefix.substring(0, end - 1) + (char) (prefix.charAt(end - 1) + 1);
+    }
+
+    private static int compareNicknames(String first, String second) {
+        if (first == null || second == null) {
+            return first == second ? 0 : (first == null ? -1 : 1);
+        }
+        return first.compareTo(second);
+    }
+}
@@ -0,0 +1,215 @@
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Клас ConcurrentPetRegistry зберігає пари тварина-власник для одночасного доступу з багатьох потоків.
+ *
+ * <p>Записи зберігаються в ConcurrentHashMap, тому читання (get, containsKey, petsOf) не блокуються.
+ * Зміни синхронізуються замками, розподіленими за іменами власників (lock striping):
+ * запис, що змінює власника тварини, тримає замки старого і нового власника.
+ * Завдяки цьому зворотний індекс власників завжди узгоджений із записами,
+ * а складені операції {@link #putIfAbsent(BasicDataOperationUsingMap.Pet, String)} та
+ * {@link #removeAllOwnedBy(String)} атомарні відносно інших змін.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #get(BasicDataOperationUsingMap.Pet)} - Повертає власника тварини.</li>
+ *   <li>{@link #put(BasicDataOperationUsingMap.Pet, String)} - Додає або змінює запис.</li>
+ *   <li>{@link #putIfAbsent(BasicDataOperationUsingMap.Pet, String)} - Додає запис, якщо тварини ще немає.</li>
+ *   <li>{@link #remove(BasicDataOperationUsingMap.Pet)} - Видаляє запис за ключем.</li>
+ *   <li>{@link #removeAllOwnedBy(String)} - Видаляє всіх тварин власника.</li>
+ *   <li>{@link #petsOf(String)} - Повертає тварин власника.</li>
+ * </ul>
+ */
+public class ConcurrentPetRegistry {
+    private static final int DEFAULT_STRIPE_COUNT = 64;
+
+    private final ConcurrentHashMap<BasicDataOperationUsingMap.Pet, String> pets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<BasicDataOperationUsingMap.Pet>> petsByOwner = new ConcurrentHashMap<>();
+    private final ReentrantLock[] ownerLocks;
+
+    public ConcurrentPetRegistry() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * @param stripeCount Кількість замків; округлюється вгору до степеня двійки
+     */
+    public ConcurrentPetRegistry(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        ownerLocks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            ownerLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Створює реєстр із вмістом Map.
+     *
+     * @param source Map з ключами Pet та іменами власників
+     */
+    public ConcurrentPetRegistry(Map<BasicDataOperationUsingMap.Pet, String> source) {
+        this(DEFAULT_STRIPE_COUNT);
+        for (Map.Entry<BasicDataOperationUsingMap.Pet, String> entry : source.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public String get(BasicDataOperationUsingMap.Pet pet) {
+        return pets.get(pet);
+    }
+
+    public boolean containsKey(BasicDataOperationUsingMap.Pet pet) {
+        return pets.containsKey(pet);
+    }
+
+    public int size() {
+        return pets.size();
+    }
+
+    /**
+     * Повертає незмінне представлення множини тварин власника (порожню, якщо власника немає).
+     * Представлення слабко узгоджене: воно може відображати зміни, що відбуваються одночасно.
+     */
+    public Set<BasicDataOperationUsingMap.Pet> petsOf(String owner) {
+        Set<BasicDataOperationUsingMap.Pet> ownedPets = petsByOwner.get(owner);
+        return ownedPets != null ? Collections.unmodifiableSet(ownedPets) : Collections.emptySet();
+    }
+
+    /**
+     * Додає запис або змінює власника тварини.
+     *
+     * @return Попередній власник або null, якщо тварини не було
+     */
+    public String put(BasicDataOperationUsingMap.Pet pet, String owner) {
+        Objects.requireNonNull(pet);
+        Objects.requireNonNull(owner);
+
+        while (true) {
+            String previousOwner = pets.get(pet);
+            int ownerStripe = stripeIndex(owner);
+            int previousOwnerStripe = previousOwner != null ? stripeIndex(previousOwner) : ownerStripe;
+            lockStripes(ownerStripe, previousOwnerStripe);
+            try {
+                // Поки тримаємо замок попереднього власника, ніхто інший не змінить цей запис
+                boolean updated = previousOwner == null
+                        ? pets.putIfAbsent(pet, owner) == null
+                        : pets.replace(pet, previousOwner, owner);
+                if (updated) {
+                    if (previousOwner != null) {
+                        removeFromIndex(pet, previousOwner);
+                    }
+                    addToIndex(pet, owner);
+                    return previousOwner;
+                }
+            } finally {
+                unlockStripes(ownerStripe, previousOwnerStripe);
+            }
+        }
+    }
+
+    /**
+     * Атомарно додає запис, якщо тварини ще немає в реєстрі.
+     *
+     * @return Поточний власник, якщо тварина вже є, або null, якщо запис додано
+     */
+    public String putIfAbsent(BasicDataOperationUsingMap.Pet pet, String owner) {
+        Objects.requireNonNull(pet);
+        Objects.requireNonNull(owner);
+
+        ReentrantLock ownerLock = ownerLocks[stripeIndex(owner)];
+        ownerLock.lock();
+        try {
+            String currentOwner = pets.putIfAbsent(pet, owner);
+            if (currentOwner == null) {
+                addToIndex(pet, owner);
+            }
+            return currentOwner;
+        } finally {
+            ownerLock.unlock();
+        }
+    }
+
+    /**
+     * Видаляє запис за ключем.
+     *
+     * @return Власник видаленої тварини або null, якщо її не було
+     */
+    public String remove(BasicDataOperationUsingMap.Pet pet) {
+        while (true) {
+            String owner = pets.get(pet);
+            if (owner == null) {
+                return null;
+            }
+            ReentrantLock ownerLock = ownerLocks[stripeIndex(owner)];
+            ownerLock.lock();
+            try {
+                if (pets.remove(pet, owner)) {
+                    removeFromIndex(pet, owner);
+                    return owner;
+                }
+            } finally {
+                ownerLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Атомарно видаляє всіх тварин власника: жоден інший запис не може додати або передати
+     * цьому власнику тварину, поки операція виконується.
+     *
+     * @return Кількість видалених записів
+     */
+    public int removeAllOwnedBy(String owner) {
+        ReentrantLock ownerLock = ownerLocks[stripeIndex(owner)];
+        ownerLock.lock();
+        try {
+            Set<BasicDataOperationUsingMap.Pet> ownedPets = petsByOwner.remove(owner);
+            if (ownedPets == null) {
+                return 0;
+            }
+            for (BasicDataOperationUsingMap.Pet pet : ownedPets) {
+                pets.remove(pet, owner);
+            }
+            return ownedPets.size();
+        } finally {
+            ownerLock.unlock();
+        }
+    }
+
+    // Множина тварин власника змінюється лише під замком цього власника
+    private void addToIndex(BasicDataOperationUsingMap.Pet pet, String owner) {
+        petsByOwner.computeIfAbsent(owner, key -> ConcurrentHashMap.newKeySet()).add(pet);
+    }
+
+    private void removeFromIndex(BasicDataOperationUsingMap.Pet pet, String owner) {
+        Set<BasicDataOperationUsingMap.Pet> ownedPets = petsByOwner.get(owner);
+        if (ownedPets != null && ownedPets.remove(pet) && ownedPets.isEmpty()) {
+            petsByOwner.remove(owner, ownedPets);
+        }
+    }
+
+    private int stripeIndex(String owner) {
+        int hash = owner.hashCode();
+        return (hash ^ (hash >>> 16)) & (ownerLocks.length - 1);
+    }
+
+    // Замки завжди захоплюються в порядку зростання індексів, щоб уникнути взаємного блокування
+    private void lockStripes(int firstStripe, int secondStripe) {
+        ownerLocks[Math.min(firstStripe, secondStripe)].lock();
+        if (firstStripe != secondStripe) {
+            ownerLocks[Math.max(firstStripe, secondStripe)].lock();
+        }
+    }
+
+    private void unlockStripes(int firstStripe, int secondStripe) {
+        ownerLocks[firstStripe].unlock();
+        if (firstStripe != secondStripe) {
+            ownerLocks[secondStripe].unlock();
+        }
+    }
+}
@@ -1,46 +1,718 @@
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
 
 /**
- * Клас DataFileHandler управляє роботою з файлами даних LocalDate.
+ * Клас DataFileHandler управляє роботою з файлами даних LocalDate та записів тварин.
  */
 public class DataFileHandler {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int INITIAL_CAPACITY = 1024;
+    // Рядок файлу тварин: кличка;вид;власник (вид може бути порожнім)
+    private static final char PET_FIELD_SEPARATOR = ';';
+    private static final int PET_FIELD_COUNT = 3;
+
+    // Найбільше вікно, яке можна відобразити одним MappedByteBuffer
+    private static final long MAX_MAPPED_WINDOW = Integer.MAX_VALUE;
+    private static final int ISO_DATE_LENGTH = 10;
+    private static final long DAYS_0000_TO_1970 = 719528L;
+
+    // Файли, менші за два фрагменти, розбираються в одному потоці
+    private static final long MIN_PARALLEL_CHUNK = 1L << 20;
+    private static final int CHUNKS_PER_WORKER = 4;
+    // Найкоротший можливий рядок дати разом із символом '\n'
+    private static final int MIN_LINE_LENGTH = ISO_DATE_LENGTH + 1;
+
+    // Бінарний знімок: сигнатура "LDSN", версія, прапорці, кількість, далі дні від епохи (little-endian)
+    private static final int SNAPSHOT_MAGIC = 0x4E53444C;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_FLAG_SORTED = 1;
+    private static final int SNAPSHOT_HEADER_SIZE = 4 * Integer.BYTES;
+    // Розмір вікна читання знімка, кратний розміру int
+    private static final long SNAPSHOT_WINDOW = 1L << 30;
+    private static final int SNAPSHOT_WRITE_BUFFER = 1 << 16;
 
     /**
      * Завантажує масив об'єктів LocalDate з файлу.
+     * Розмір файлу не обмежений: масив розширюється вдвічі при заповненні.
      * 
      * @param filePath Шлях до файлу з даними.
      * @return Масив об'єктів LocalDate.
      */
     public static LocalDate[] loadArrayFromFile(String filePath) {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_LOCAL_DATE; // <--- зміна
-        LocalDate[] temporaryArray = new LocalDate[1000];
+        LocalDate[] temporaryArray = new LocalDate[INITIAL_CAPACITY];
         int currentIndex = 0;
 
-        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath))) {
-            String currentLine;
-            while ((currentLine = fileReader.readLine()) != null) {
-                // Видаляємо можливі невидимі символи та пробіли
-                currentLine = currentLine.trim().replaceAll("^\\uFEFF", "");
-                if (!currentLine.isEmpty()) {
-                    // Парсимо LocalDate
-                    LocalDate parsedDate = LocalDate.parse(currentLine, dateFormatter);
-                    temporaryArray[currentIndex++] = parsedDate;
+        try (Stream<LocalDate> dateStream = streamDatesFromFile(filePath)) {
+            Iterator<LocalDate> dateIterator = dateStream.iterator();
+            while (dateIterator.hasNext()) {
+                if (currentIndex == temporaryArray.length) {
+                    temporaryArray = Arrays.copyOf(temporaryArray, currentIndex * 2);
+                }
+                temporaryArray[currentIndex++] = dateIterator.next();
+            }
+        } catch (IOException | UncheckedIOException ioException) {
+            ioException.printStackTrace();
+        }
+
+        return Arrays.copyOf(temporaryArray, currentIndex);
+    }
+
+    /**
+     * Відкриває файл як потік об'єктів LocalDate, не завантажуючи його в пам'ять.
+     * Маркер BOM перевіряється один раз на початку файлу, порожні рядки пропускаються.
+     * Потік потрібно закрити після використання (наприклад, у try-with-resources).
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Лінивий потік об'єктів LocalDate у порядку рядків файлу.
+     * @throws IOException якщо файл не вдалося відкрити.
+     */
+    public static Stream<LocalDate> streamDatesFromFile(String filePath) throws IOException {
+        BufferedReader fileReader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8);
+        try {
+            skipByteOrderMark(fileReader);
+        } catch (IOException ioException) {
+            fileReader.close();
+            throw ioException;
+        }
+
+        return fileReader.lines()
+                .map(String::trim)
+                .filter(currentLine -> !currentLine.isEmpty())
+                .map(currentLine -> LocalDate.parse(currentLine, DATE_FORMATTER))
+                .onClose(() -> {
+                    try {
+                        fileReader.close();
+                    } catch (IOException ioException) {
+                        throw new UncheckedIOException(ioException);
+                    }
+                });
+    }
+
+    /**
+     * Відкриває файл записів тварин як лінивий потік, не завантажуючи його в пам'ять.
+     * Кожен непорожній рядок має формат "кличка;вид;власник"; порожній вид означає тварину без виду.
+     * Потік потрібно закрити після використання (наприклад, у try-with-resources).
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Лінивий потік пар тварина-власник у порядку рядків файлу.
+     * @throws IOException якщо файл не вдалося відкрити.
+     */
+    public static Stream<Map.Entry<BasicDataOperationUsingMap.Pet, String>> streamPetEntriesFromFile(String filePath)
+            throws IOException {
+        BufferedReader fileReader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8);
+        try {
+            skipByteOrderMark(fileReader);
+        } catch (IOException ioException) {
+            fileReader.close();
+            throw ioException;
+        }
+
+        return fileReader.lines()
+                .map(String::trim)
+                .filter(currentLine -> !currentLine.isEmpty())
+                .map(DataFileHandler::parsePetEntry)
+                .onClose(() -> {
+                    try {
+                        fileReader.close();
+                    } catch (IOException ioException) {
+                        throw new UncheckedIOException(ioException);
+                    }
+                });
+    }
+
+    /**
+     * Паралельно завантажує записи тварин з файлу.
+     * 
+     * <p>Files.lines для UTF-8 ділить відображений у пам'ять файл на діапазони по кінцях рядків,
+     * тому рядки розбираються в кількох потоках спільного ForkJoinPool,
+     * а результат зберігає порядок рядків файлу.</p>
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Список пар тварина-власник у порядку рядків файлу або порожній список у разі помилки.
+     * @throws IllegalArgumentException якщо рядок файлу має неправильний формат.
+     */
+    public static List<Map.Entry<BasicDataOperationUsingMap.Pet, String>> loadPetEntriesFromFileParallel(String filePath) {
+        try (Stream<String> lines = Files.lines(Paths.get(filePath), StandardCharsets.UTF_8)) {
+            return lines.parallel()
+                    .map(DataFileHandler::stripPetLine)
+                    .filter(currentLine -> !currentLine.isEmpty())
+                    .map(DataFileHandler::parsePetEntry)
+                    .toList();
+        } catch (IOException | UncheckedIOException ioException) {
+            ioException.printStackTrace();
+            return List.of();
+        }
+    }
+
+    /**
+     * Прибирає пробіли навколо рядка та маркер BOM, з якого може починатися перший рядок файлу.
+     */
+    private static String stripPetLine(String line) {
+        if (!line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+            line = line.substring(1);
+        }
+        return line.trim();
+    }
+
+    /**
+     * Розбирає рядок "кличка;вид;власник". Тварини створюються через Pet.of(),
+     * тому однакові види в різних рядках зберігаються одним рядком.
+     */
+    private static Map.Entry<BasicDataOperationUsingMap.Pet, String> parsePetEntry(String line) {
+        String[] fields = new String[PET_FIELD_COUNT];
+        int fieldStart = 0;
+        for (int field = 0; field < PET_FIELD_COUNT - 1; field++) {
+            int separatorIndex = line.indexOf(PET_FIELD_SEPARATOR, fieldStart);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Рядок '" + line + "' не відповідає формату кличка;вид;власник");
+            }
+            fields[field] = line.substring(fieldStart, separatorIndex).trim();
+            fieldStart = separatorIndex + 1;
+        }
+        fields[PET_FIELD_COUNT - 1] = line.substring(fieldStart).trim();
+        if (fields[0].isEmpty() || fields[2].isEmpty()) {
+            throw new IllegalArgumentException("Рядок '" + line + "' не містить клички або власника");
+        }
+
+        String species = fields[1].isEmpty() ? null : fields[1];
+        return Map.entry(BasicDataOperationUsingMap.Pet.of(fields[0], species), fields[2]);
+    }
+
+    /**
+     * Пропускає маркер BOM, якщо файл з нього починається.
+     */
+    private static void skipByteOrderMark(BufferedReader fileReader) throws IOException {
+        fileReader.mark(1);
+        if (fileReader.read() != BYTE_ORDER_MARK) {
+            fileReader.reset();
+        }
+    }
+
+    /**
+     * Завантажує дати з файлу як масив днів від епохи (LocalDate.toEpochDay()).
+     * 
+     * <p>Файл відображається в пам'ять через FileChannel.map, а рядки формату yyyy-MM-dd
+     * розбираються прямо з байтів, без створення String для кожного рядка.
+     * Рядки, що не відповідають цьому формату, розбираються через DateTimeFormatter.</p>
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив днів від епохи у порядку рядків файлу або null, якщо файл не вдалося
+     *         прочитати чи якийсь його рядок не є датою.
+     */
+    public static int[] loadEpochDaysFromFile(String filePath) {
+        EpochDayAccumulator epochDays = new EpochDayAccumulator(INITIAL_CAPACITY);
+
+        try (FileChannel fileChannel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            parseFileRange(fileChannel, 0, fileChannel.size(), epochDays);
+        } catch (IOException | DateTimeParseException | ArithmeticException exception) {
+            exception.printStackTrace();
+            return null;
+        }
+
+        return epochDays.toArray();
+    }
+
+    /**
+     * Розбирає діапазон файлу [from, to), межі якого збігаються з початками рядків.
+     * Діапазони, більші за 2 ГБ, відображаються послідовними вікнами, вирівняними по рядках.
+     */
+    private static void parseFileRange(FileChannel fileChannel, long from, long to, EpochDayAccumulator epochDays)
+            throws IOException {
+        long position = from;
+        while (position < to) {
+            long windowSize = Math.min(MAX_MAPPED_WINDOW, to - position);
+            MappedByteBuffer window = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+
+            int windowEnd = (int) windowSize;
+            if (position + windowSize < to) {
+                windowEnd = findLastLineEnd(window, windowEnd);
+                if (windowEnd == 0) {
+                    throw new IOException("Рядок з позиції " + position + " не вміщується у вікно відображення");
+                }
+            }
+
+            parseEpochDays(window, 0, windowEnd, position == 0, epochDays);
+            position += windowEnd;
+        }
+    }
+
+    /**
+     * Завантажує дати з потоку (наприклад, стандартного введення) як масив днів від епохи.
+     * Потік читається повністю і розбирається так само, як файл у {@link #loadEpochDaysFromFile(String)}.
+     * Потік після читання не закривається.
+     * 
+     * @param inputStream Потік з датами, по одній у рядку.
+     * @return Масив днів від епохи у порядку рядків потоку або null, якщо потік не вдалося
+     *         прочитати чи якийсь його рядок не є датою.
+     */
+    public static int[] loadEpochDaysFromStream(InputStream inputStream) {
+        EpochDayAccumulator epochDays = new EpochDayAccumulator(INITIAL_CAPACITY);
+
+        try {
+            byte[] content = inputStream.readAllBytes();
+            parseEpochDays(ByteBuffer.wrap(content), 0, content.length, true, epochDays);
+        } catch (IOException | DateTimeParseException | ArithmeticException exception) {
+            exception.printStackTrace();
+            return null;
+        }
+
+        return epochDays.toArray();
+    }
+
+    /**
+     * Паралельно завантажує дати з файлу як масив днів від епохи у спільному ForkJoinPool.
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив днів від епохи у порядку рядків файлу.
+     * @see #loadEpochDaysFromFileParallel(String, ForkJoinPool)
+     */
+    public static int[] loadEpochDaysFromFileParallel(String filePath) {
+        return loadEpochDaysFromFileParallel(filePath, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Паралельно завантажує дати з файлу як масив днів від епохи.
+     * 
+     * <p>Файл ділиться на діапазони байтів, межі яких вирівняні по кінцях рядків.
+     * Кожен діапазон відображається в пам'ять і розбирається окремим завданням пулу,
+     * після чого результати об'єднуються в один масив у порядку файлу.
+     * Невеликі файли завантажуються через {@link #loadEpochDaysFromFile(String)}.</p>
+     * 
+     * @param filePath Шлях до файлу з даними.
+     * @param forkJoinPool Пул потоків для розбору фрагментів.
+     * @return Масив днів від епохи у порядку рядків файлу або null, якщо файл не вдалося
+     *         прочитати чи якийсь його рядок не є датою.
+     */
+    public static int[] loadEpochDaysFromFileParallel(String filePath, ForkJoinPool forkJoinPool) {
+        try (FileChannel fileChannel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long fileSize = fileChannel.size();
+            if (fileSize < 2 * MIN_PARALLEL_CHUNK) {
+                return loadEpochDaysFromFile(filePath);
+            }
+
+            long chunkCount = Math.min((long) forkJoinPool.getParallelism() * CHUNKS_PER_WORKER,
+                    fileSize / MIN_PARALLEL_CHUNK);
+            chunkCount = Math.max(chunkCount, (fileSize + MAX_MAPPED_WINDOW - 1) / MAX_MAPPED_WINDOW);
+            long[] chunkBoundaries = splitOnLineBoundaries(fileChannel, fileSize, (int) chunkCount);
+
+            int[][] chunkResults = new int[chunkBoundaries.length - 1][];
+            forkJoinPool.invoke(new EpochDayChunkTask(fileChannel, chunkBoundaries, chunkResults,
+                    0, chunkResults.length));
+
+            int totalSize = 0;
+            for (int[] chunkResult : chunkResults) {
+                // Понад Integer.MAX_VALUE дат не вміщується в масив; ArithmeticException обробляється нижче
+                totalSize = Math.addExact(totalSize, chunkResult.length);
+            }
+            int[] resultArray = new int[totalSize];
+            int currentIndex = 0;
+            for (int[] chunkResult : chunkResults) {
+                System.arraycopy(chunkResult, 0, resultArray, currentIndex, chunkResult.length);
+                currentIndex += chunkResult.length;
+            }
+            return resultArray;
+        } catch (IOException | UncheckedIOException | DateTimeParseException | ArithmeticException exception) {
+            // Помилки завдань пулу перекидаються з invoke, тому обробляються так само, як у послідовному розборі
+            exception.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Ділить файл приблизно на chunkCount діапазонів, зсуваючи кожну межу до початку наступного рядка.
+     * 
+     * @return Зростаючий масив меж: перший елемент 0, останній - розмір файлу.
+     */
+    private static long[] splitOnLineBoundaries(FileChannel fileChannel, long fileSize, int chunkCount)
+            throws IOException {
+        long[] boundaries = new long[chunkCount + 1];
+        int boundaryCount = 1;
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+
+        for (int chunk = 1; chunk < chunkCount; chunk++) {
+            long target = Math.max(fileSize / chunkCount * chunk, boundaries[boundaryCount - 1] + MIN_LINE_LENGTH);
+            long lineStart = findNextLineStart(fileChannel, target, fileSize, probe);
+            if (lineStart < fileSize && lineStart > boundaries[boundaryCount - 1]) {
+                boundaries[boundaryCount++] = lineStart;
+            }
+        }
+
+        boundaries[boundaryCount++] = fileSize;
+        return Arrays.copyOf(boundaries, boundaryCount);
+    }
+
+    /**
+     * Повертає позицію одразу після першого символу '\n', що трапляється не раніше position.
+     */
+    private static long findNextLineStart(FileChannel fileChannel, long position, long fileSize, ByteBuffer probe)
+            throws IOException {
+        while (position < fileSize) {
+            probe.clear();
+            int bytesRead = fileChannel.read(probe, position);
+            if (bytesRead <= 0) {
+                break;
+            }
+            for (int i = 0; i < bytesRead; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += bytesRead;
+        }
+        return fileSize;
+    }
+
+    /**
+     * Завдання fork-join, що ділить набір фрагментів файлу навпіл, поки не залишиться один фрагмент,
+     * і розбирає його у відповідну комірку масиву результатів.
+     */
+    private static final class EpochDayChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel fileChannel;
+        private final long[] chunkBoundaries;
+        private final int[][] chunkResults;
+        private final int fromChunk;
+        private final int toChunk;
+
+        EpochDayChunkTask(FileChannel fileChannel, long[] chunkBoundaries, int[][] chunkResults,
+                          int fromChunk, int toChunk) {
+            this.fileChannel = fileChannel;
+            this.chunkBoundaries = chunkBoundaries;
+            this.chunkResults = chunkResults;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                int middleChunk = (fromChunk + toChunk) >>> 1;
+                invokeAll(new EpochDayChunkTask(fileChannel, chunkBoundaries, chunkResults, fromChunk, middleChunk),
+                        new EpochDayChunkTask(fileChannel, chunkBoundaries, chunkResults, middleChunk, toChunk));
+                return;
+            }
+
+            // Межі зсуваються до початків рядків, тому фрагмент може вийти за вікно відображення
+            // і розбирається вікнами так само, як у послідовному завантаженні
+            long chunkStart = chunkBoundaries[fromChunk];
+            long chunkEnd = chunkBoundaries[fromChunk + 1];
+            try {
+                EpochDayAccumulator epochDays = new EpochDayAccumulator(
+                        (int) (Math.min(chunkEnd - chunkStart, MAX_MAPPED_WINDOW) / MIN_LINE_LENGTH));
+                parseFileRange(fileChannel, chunkStart, chunkEnd, epochDays);
+                chunkResults[fromChunk] = epochDays.toArray();
+            } catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+        }
+    }
+
+    /**
+     * Розбирає рядки в межах [from, to) буфера та додає їх дні від епохи до накопичувача.
+     * 
+     * @param buffer Буфер з вмістом файлу.
+     * @param from Позиція початку першого рядка.
+     * @param to Позиція після кінця останнього рядка.
+     * @param atFileStart Чи починається діапазон з початку файлу (де може бути BOM).
+     * @param epochDays Накопичувач результатів.
+     */
+    static void parseEpochDays(ByteBuffer buffer, int from, int to, boolean atFileStart,
+                               EpochDayAccumulator epochDays) {
+        if (atFileStart && to - from >= 3
+                && buffer.get(from) == (byte) 0xEF
+                && buffer.get(from + 1) == (byte) 0xBB
+                && buffer.get(from + 2) == (byte) 0xBF) {
+            from += 3;
+        }
+
+        int lineStart = from;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                parseEpochDayLine(buffer, lineStart, i, epochDays);
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < to) {
+            parseEpochDayLine(buffer, lineStart, to, epochDays);
+        }
+    }
+
+    /**
+     * Розбирає один рядок [start, end) і додає його день від епохи, пропускаючи порожні рядки.
+     */
+    private static void parseEpochDayLine(ByteBuffer buffer, int start, int end, EpochDayAccumulator epochDays) {
+        // Обрізаємо пробіли та символ \r так само, як String.trim()
+        while (start < end && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+
+        if (end - start == ISO_DATE_LENGTH && buffer.get(start + 4) == '-' && buffer.get(start + 7) == '-') {
+            int year = parseDigits(buffer, start, 4);
+            int month = parseDigits(buffer, start + 5, 2);
+            int day = parseDigits(buffer, start + 8, 2);
+            if (year >= 0 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month)) {
+                epochDays.add((int) toEpochDay(year, month, day));
+                return;
+            }
+        }
+
+        // Повільний шлях для рядків нестандартного вигляду
+        byte[] lineBytes = new byte[end - start];
+        buffer.get(start, lineBytes);
+        String currentLine = new String(lineBytes, StandardCharsets.UTF_8).trim();
+        epochDays.add(Math.toIntExact(LocalDate.parse(currentLine, DATE_FORMATTER).toEpochDay()));
+    }
+
+    /**
+     * Розбирає count десяткових цифр, починаючи з позиції start.
+     * 
+     * @return Значення числа або -1, якщо трапився не цифровий символ.
+     */
+    private static int parseDigits(ByteBuffer buffer, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Повертає позицію одразу після останнього символу '\n' у буфері або 0, якщо його немає.
+     */
+    private static int findLastLineEnd(ByteBuffer buffer, int limit) {
+        for (int i = limit - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Обчислює день від епохи для невід'ємного року так само, як LocalDate.toEpochDay(),
+     * але без створення об'єкта LocalDate.
+     */
+    static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Зберігає колонку дат у бінарний знімок, який завантажується без розбору тексту.
+     * 
+     * <p>Формат: заголовок із сигнатури, версії, прапорців і кількості елементів,
+     * за яким ідуть упаковані значення int у порядку little-endian.
+     * Прапорець упорядкованості береться з колонки.
+     * Файл спочатку записується поруч під тимчасовим ім'ям, а потім замінює старий знімок.</p>
+     * 
+     * @param dateColumn Колонка дат.
+     * @param filePath Шлях до файлу знімка.
+     */
+    public static void writeSnapshotToFile(DateColumn dateColumn, String filePath) {
+        Path snapshotPath = Paths.get(filePath);
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+
+        try (FileChannel fileChannel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer writeBuffer = ByteBuffer.allocateDirect(SNAPSHOT_WRITE_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+            writeBuffer.putInt(SNAPSHOT_MAGIC)
+                    .putInt(SNAPSHOT_VERSION)
+                    .putInt(dateColumn.isSorted() ? SNAPSHOT_FLAG_SORTED : 0)
+                    .putInt(dateColumn.size());
+
+            for (int i = 0; i < dateColumn.size(); i++) {
+                if (!writeBuffer.hasRemaining()) {
+                    writeFully(fileChannel, writeBuffer);
                 }
+                writeBuffer.putInt(dateColumn.epochDayAt(i));
+            }
+            writeFully(fileChannel, writeBuffer);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+            return;
+        }
+
+        try {
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+
+    /**
+     * Завантажує бінарний знімок, записаний {@link #writeSnapshotToFile(DateColumn, String)}.
+     * Вміст файлу відображається в пам'ять і копіюється в масив без розбору тексту.
+     * 
+     * @param filePath Шлях до файлу знімка.
+     * @return Колонка дат з ознакою впорядкованості зі знімка або null, якщо файл відсутній чи пошкоджений.
+     */
+    public static DateColumn loadSnapshotFromFile(String filePath) {
+        try (FileChannel fileChannel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long fileSize = fileChannel.size();
+            if (fileSize < SNAPSHOT_HEADER_SIZE) {
+                throw new IOException("Файл " + filePath + " не є знімком дат");
             }
+
+            ByteBuffer header = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, SNAPSHOT_HEADER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            int magic = header.getInt();
+            int version = header.getInt();
+            int flags = header.getInt();
+            int count = header.getInt();
+            if (magic != SNAPSHOT_MAGIC || version != SNAPSHOT_VERSION || count < 0
+                    || fileSize != SNAPSHOT_HEADER_SIZE + (long) count * Integer.BYTES) {
+                throw new IOException("Файл " + filePath + " не є знімком дат або пошкоджений");
+            }
+
+            int[] epochDays = new int[count];
+            int currentIndex = 0;
+            long position = SNAPSHOT_HEADER_SIZE;
+            while (currentIndex < count) {
+                long windowSize = Math.min(SNAPSHOT_WINDOW, fileSize - position);
+                IntBuffer window = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, windowSize)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .asIntBuffer();
+                int windowCount = window.remaining();
+                window.get(epochDays, currentIndex, windowCount);
+                currentIndex += windowCount;
+                position += windowSize;
+            }
+
+            return DateColumn.fromEpochDays(epochDays, (flags & SNAPSHOT_FLAG_SORTED) != 0);
         } catch (IOException ioException) {
             ioException.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Перевіряє, чи існує знімок, не старіший за текстовий файл, з якого його отримано.
+     * 
+     * @param snapshotPath Шлях до файлу знімка.
+     * @param sourcePath Шлях до текстового файлу з даними.
+     * @return true, якщо знімок можна використати замість розбору тексту.
+     */
+    public static boolean isSnapshotUpToDate(String snapshotPath, String sourcePath) {
+        try {
+            Path snapshot = Paths.get(snapshotPath);
+            Path source = Paths.get(sourcePath);
+            return Files.isRegularFile(snapshot)
+                    && Files.getLastModifiedTime(snapshot).compareTo(Files.getLastModifiedTime(source)) >= 0;
+        } catch (IOException ioException) {
+            return false;
+        }
+    }
+
+    /**
+     * Перевіряє, чи файл містить хоча б один байт.
+     * 
+     * @param filePath Шлях до файлу.
+     * @return true, якщо файл існує і не порожній.
+     */
+    public static boolean hasContent(String filePath) {
+        try {
+            return Files.size(Paths.get(filePath)) > 0;
+        } catch (IOException ioException) {
+            return false;
+        }
+    }
+
+    private static void writeFully(FileChannel fileChannel, ByteBuffer writeBuffer) throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            fileChannel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    /**
+     * Масив int, що розширюється вдвічі при заповненні.
+     */
+    static final class EpochDayAccumulator {
+        private int[] values;
+        private int size;
+
+        EpochDayAccumulator(int initialCapacity) {
+            this.values = new int[Math.max(initialCapacity, 16)];
+        }
+
+        void add(int epochDay) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = epochDay;
         }
 
-        LocalDate[] resultArray = new LocalDate[currentIndex];
-        System.arraycopy(temporaryArray, 0, resultArray, 0, currentIndex);
+        int size() {
+            return size;
+        }
 
-        return resultArray;
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
     }
 
     /**
@@ -59,4 +731,21 @@ public class DataFileHandler {
             ioException.printStackTrace();
         }
     }
-}
+
+    /**
+     * Зберігає колонку дат у текстовий файл, по одній даті в рядку.
+     * 
+     * @param dateColumn Колонка дат.
+     * @param filePath Шлях до файлу для збереження.
+     */
+    public static void writeColumnToFile(DateColumn dateColumn, String filePath) {
+        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
+            for (int i = 0; i < dateColumn.size(); i++) {
+                fileWriter.write(dateColumn.get(i).toString());
+                fileWriter.newLine();
+            }
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Клас DateColumn зберігає послідовність дат як масив днів від епохи (LocalDate.toEpochDay()).
+ *
+ * <p>Одна дата займає 4 байти замість окремого об'єкта LocalDate, а сортування,
+ * бінарний пошук і визначення граничних значень виконуються над примітивами.
+ * Об'єкти LocalDate створюються лише на межі - під час читання окремих елементів.
+ * Колонка незмінна: операції, що змінюють порядок, повертають нову колонку.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #fromEpochDays(int[])} - Створює колонку з масиву днів від епохи.</li>
+ *   <li>{@link #of(LocalDate[])} - Створює колонку з масиву LocalDate.</li>
+ *   <li>{@link #sorted()} - Повертає впорядковану за зростанням колонку.</li>
+ *   <li>{@link #binarySearch(LocalDate)} - Бінарний пошук дати у впорядкованій колонці.</li>
+ *   <li>{@link #searchIndex()} - Повертає пошуковий індекс впорядкованої колонки.</li>
+ *   <li>{@link #min()} - Повертає найменшу дату.</li>
+ *   <li>{@link #max()} - Повертає найбільшу дату.</li>
+ *   <li>{@link #bounds()} - Повертає найменшу та найбільшу дати за один прохід.</li>
+ *   <li>{@link #asList()} - Повертає колонку як незмінний список LocalDate.</li>
+ * </ul>
+ */
+public final class DateColumn {
+    private final int[] epochDays;
+    private final boolean sorted;
+    // Створюється під час першого звернення; колонка незмінна, тому індекс не застаріває
+    private volatile DateSearchIndex searchIndex;
+
+    private DateColumn(int[] epochDays, boolean sorted) {
+        this.epochDays = epochDays;
+        this.sorted = sorted;
+    }
+
+    /**
+     * Створює колонку з масиву днів від епохи. Масив не копіюється,
+     * тому після виклику його не можна змінювати.
+     *
+     * @param epochDays Масив днів від епохи
+     * @return Колонка дат
+     */
+    public static DateColumn fromEpochDays(int[] epochDays) {
+        return new DateColumn(epochDays, isSorted(epochDays));
+    }
+
+    /**
+     * Створює колонку з масиву днів від епохи з уже відомою ознакою впорядкованості
+     * (наприклад, прочитаною з бінарного знімка). Масив не копіюється.
+     *
+     * @param epochDays Масив днів від епохи
+     * @param sorted Чи впорядкований масив за зростанням
+     * @return Колонка дат
+     */
+    public static DateColumn fromEpochDays(int[] epochDays, boolean sorted) {
+        return new DateColumn(epochDays, sorted);
+    }
+
+    /**
+     * Створює колонку з масиву об'єктів LocalDate.
+     *
+     * @param dateArray Масив LocalDate
+     * @return Колонка дат
+     */
+    public static DateColumn of(LocalDate[] dateArray) {
+        int[] epochDays = new int[dateArray.length];
+        for (int i = 0; i < dateArray.length; i++) {
+            epochDays[i] = Math.toIntExact(dateArray[i].toEpochDay());
+        }
+        return fromEpochDays(epochDays);
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Повертає день від епохи за індексом без створення LocalDate.
+     */
+    public int epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    /**
+     * Повертає дату за індексом.
+     */
+    public LocalDate get(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    /**
+     * Повертає впорядковану за зростанням колонку.
+     * Якщо колонка вже впорядкована, повертається вона сама без копіювання.
+     * Копія впорядковується DateSortEngine, що обирає спосіб сортування за розміром даних.
+     *
+     * @return Впорядкована колонка
+     */
+    public DateColumn sorted() {
+        if (sorted) {
+            return this;
+        }
+        int[] sortedEpochDays = epochDays.clone();
+        DateSortEngine.sort(sortedEpochDays);
+        return new DateColumn(sortedEpochDays, true);
+    }
+
+    /**
+     * Виконує пошук дати. Результат визначений лише для впорядкованої колонки,
+     * у якій пошук виконується інтерполяцією через {@link #searchIndex()} і повертає перше входження дати.
+     *
+     * @param value Дата для пошуку
+     * @return Індекс знайденої дати або (-(точка вставки) - 1), як у Arrays.binarySearch
+     */
+    public int binarySearch(LocalDate value) {
+        long epochDay = value.toEpochDay();
+        if (epochDay < Integer.MIN_VALUE) {
+            return -1;
+        }
+        if (epochDay > Integer.MAX_VALUE) {
+            return -(epochDays.length + 1);
+        }
+        if (sorted) {
+            return searchIndex().interpolationSearch((int) epochDay);
+        }
+        return Arrays.binarySearch(epochDays, (int) epochDay);
+    }
+
+    /**
+     * Повертає пошуковий індекс колонки, створюючи його під час першого виклику.
+     *
+     * @throws IllegalStateException якщо колонка не впорядкована
+     */
+    public DateSearchIndex searchIndex() {
+        if (!sorted) {
+            throw new IllegalStateException("Пошуковий індекс можна створити лише для впорядкованої колонки");
+        }
+        DateSearchIndex index = searchIndex;
+        if (index == null) {
+            index = new DateSearchIndex(epochDays);
+            searchIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Повертає найменшу дату колонки.
+     *
+     * @throws NoSuchElementException якщо колонка порожня
+     */
+    public LocalDate min() {
+        return LocalDate.ofEpochDay(EpochDayMinMax.min(minMaxEpochDays()));
+    }
+
+    /**
+     * Повертає найбільшу дату колонки.
+     *
+     * @throws NoSuchElementException якщо колонка порожня
+     */
+    public LocalDate max() {
+        return LocalDate.ofEpochDay(EpochDayMinMax.max(minMaxEpochDays()));
+    }
+
+    /**
+     * Повертає найменшу та найбільшу дати колонки за один прохід.
+     *
+     * @throws NoSuchElementException якщо колонка порожня
+     */
+    public Bounds bounds() {
+        long packedMinMax = minMaxEpochDays();
+        return new Bounds(LocalDate.ofEpochDay(EpochDayMinMax.min(packedMinMax)),
+                LocalDate.ofEpochDay(EpochDayMinMax.max(packedMinMax)));
+    }
+
+    /**
+     * Повертає копію масиву днів від епохи.
+     */
+    public int[] toEpochDayArray() {
+        return epochDays.clone();
+    }
+
+    /**
+     * Повертає колонку як незмінний список, що створює LocalDate під час читання елемента.
+     */
+    public List<LocalDate> asList() {
+        return new LocalDateListView();
+    }
+
+    /**
+     * Повертає упаковані граничні дні: у впорядкованій колонці це крайні елементи,
+     * інакше вони обчислюються спільним ядром EpochDayMinMax.
+     */
+    private long minMaxEpochDays() {
+        requireNotEmpty();
+        if (sorted) {
+            return EpochDayMinMax.pack(epochDays[0], epochDays[epochDays.length - 1]);
+        }
+        return EpochDayMinMax.minMax(epochDays);
+    }
+
+    private void requireNotEmpty() {
+        if (epochDays.length == 0) {
+            throw new NoSuchElementException("Колонка дат порожня");
+        }
+    }
+
+    private static boolean isSorted(int[] epochDays) {
+        for (int i = 1; i < epochDays.length; i++) {
+            if (epochDays[i - 1] > epochDays[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Найменша та найбільша дати колонки.
+     */
+    public static final class Bounds {
+        private final LocalDate min;
+        private final LocalDate max;
+
+        Bounds(LocalDate min, LocalDate max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        public LocalDate getMin() {
+            return min;
+        }
+
+        public LocalDate getMax() {
+            return max;
+        }
+    }
+
+    /**
+     * Представлення колонки у вигляді списку LocalDate без копіювання даних.
+     */
+    private final class LocalDateListView extends AbstractList<LocalDate> implements RandomAccess {
+        @Override
+        public LocalDate get(int index) {
+            return DateColumn.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return epochDays.length;
+        }
+    }
+}
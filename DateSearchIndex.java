@@ -0,0 +1,297 @@
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Клас DateSearchIndex - пошуковий індекс над впорядкованим масивом днів від епохи.
+ *
+ * <p>Дати в наборі сильно повторюються, тому індекс зберігає лише різні дні за зростанням
+ * разом з позицією першого входження кожного дня у впорядкованому масиві. Для мільйонів дат
+ * за кілька десятиліть це десятки тисяч днів, що вміщуються в кеш процесора. Обидва способи
+ * пошуку повертають однаковий результат: індекс першого входження дати або
+ * (-(точка вставки) - 1), як у Arrays.binarySearch.</p>
+ * <ul>
+ *   <li>{@link #interpolationSearch(int)} - інтерполяційний пошук: різні дні розподілені майже
+ *       рівномірно, тому позиція дня оцінюється за його значенням, і пошук робить O(log log n)
+ *       проб. Якщо оцінка не скорочує діапазон хоча б удвічі, наступна проба ділить його навпіл,
+ *       тому на нерівномірних даних пошук не гірший за бінарний більш ніж удвічі.</li>
+ *   <li>{@link #indexOf(int)} - бінарний пошук у розкладці Ейтцінгера: дні зберігаються в порядку
+ *       обходу дерева пошуку в ширину, тому перші рівні дерева займають кілька суміжних рядків кешу,
+ *       а кожен крок циклу без розгалужень обирає дитину вузла.</li>
+ *   <li>{@link #findAll(LocalDate[])} - пакетний пошук: вісім запитів спускаються деревом одночасно,
+ *       тому їхні звернення до пам'яті перекриваються замість очікування по черзі.</li>
+ *   <li>{@link #mergeJoin(int[])} - пакетний пошук злиттям: упорядковані запити проходяться разом
+ *       з різними днями індексу за один прохід.</li>
+ * </ul>
+ *
+ * <p>У Java немає явної попередньої вибірки в кеш, тому, коли дерево не вміщується в кеш
+ * (сотні тисяч і більше різних днів), окремий запит до {@link #indexOf(int)} чекає на кожен
+ * нижній рівень. Для таких обсягів варто шукати пакетами через findAll.</p>
+ *
+ * <p>Індекс незмінний і може використовуватися кількома потоками одночасно.</p>
+ */
+public final class DateSearchIndex {
+    // Найбільша кількість різних днів, для якої номери вузлів дерева Ейтцінгера вміщуються в int
+    static final int MAX_DISTINCT_DAYS = (1 << 30) - 1;
+    private static final int BATCH_SIZE = 8;
+
+    private final int size;
+    // Різні дні за зростанням та індекс першого входження кожного з них
+    private final int[] distinctDays;
+    private final int[] firstIndexes;
+    // Ті самі дні та індекси в порядку обходу дерева в ширину, починаючи з вузла 1
+    private final int[] eytzingerDays;
+    private final int[] eytzingerFirstIndexes;
+    // Кількість рівнів дерева, заповнених повністю
+    private final int completeLevels;
+
+    /**
+     * Створює індекс над впорядкованим масивом. Масив після виклику не використовується.
+     *
+     * @param sortedDays Впорядкований за зростанням масив днів від епохи
+     */
+    DateSearchIndex(int[] sortedDays) {
+        int distinctCount = 0;
+        for (int i = 0; i < sortedDays.length; i++) {
+            if (i == 0 || sortedDays[i] != sortedDays[i - 1]) {
+                distinctCount++;
+            }
+        }
+        if (distinctCount > MAX_DISTINCT_DAYS) {
+            throw new IllegalArgumentException("Забагато різних дат для пошукового індексу: " + distinctCount);
+        }
+
+        this.size = sortedDays.length;
+        this.distinctDays = new int[distinctCount];
+        this.firstIndexes = new int[distinctCount];
+        int distinctIndex = 0;
+        for (int i = 0; i < sortedDays.length; i++) {
+            if (i == 0 || sortedDays[i] != sortedDays[i - 1]) {
+                distinctDays[distinctIndex] = sortedDays[i];
+                firstIndexes[distinctIndex++] = i;
+            }
+        }
+
+        this.eytzingerDays = new int[distinctCount + 1];
+        this.eytzingerFirstIndexes = new int[distinctCount + 1];
+        this.completeLevels = 31 - Integer.numberOfLeadingZeros(distinctCount + 1);
+        fillEytzinger();
+    }
+
+    /**
+     * Повертає кількість дат у впорядкованому масиві, над яким побудовано індекс.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Шукає дату в розкладці Ейтцінгера.
+     *
+     * @return Індекс першого входження або (-(точка вставки) - 1)
+     */
+    public int indexOf(LocalDate value) {
+        long epochDay = value.toEpochDay();
+        return epochDay != (int) epochDay ? outOfRangeResult(epochDay) : indexOf((int) epochDay);
+    }
+
+    /**
+     * Шукає день від епохи в розкладці Ейтцінгера.
+     *
+     * @return Індекс першого входження або (-(точка вставки) - 1)
+     */
+    public int indexOf(int epochDay) {
+        int distinctCount = distinctDays.length;
+        int node = 1;
+        while (node <= distinctCount) {
+            node = 2 * node + (eytzingerDays[node] < epochDay ? 1 : 0);
+        }
+        return resultForNode(node, epochDay);
+    }
+
+    /**
+     * Шукає дату інтерполяційним пошуком.
+     *
+     * @return Індекс першого входження або (-(точка вставки) - 1)
+     */
+    public int interpolationSearch(LocalDate value) {
+        long epochDay = value.toEpochDay();
+        return epochDay != (int) epochDay ? outOfRangeResult(epochDay) : interpolationSearch((int) epochDay);
+    }
+
+    /**
+     * Шукає день від епохи інтерполяційним пошуком серед різних днів.
+     *
+     * @return Індекс першого входження або (-(точка вставки) - 1)
+     */
+    public int interpolationSearch(int epochDay) {
+        int distinctCount = distinctDays.length;
+        if (distinctCount == 0 || epochDay <= distinctDays[0]) {
+            return resultForDistinctIndex(0, epochDay);
+        }
+        if (epochDay > distinctDays[distinctCount - 1]) {
+            return -(size + 1);
+        }
+
+        // Тут lowDay < epochDay <= highDay, а шуканий різний день має індекс у (low, high]
+        int low = 0;
+        int high = distinctCount - 1;
+        long lowDay = distinctDays[low];
+        long highDay = distinctDays[high];
+        boolean bisectNext = false;
+        while (high - low > 1) {
+            int probe;
+            if (bisectNext) {
+                probe = (low + high) >>> 1;
+            } else {
+                probe = low + (int) ((epochDay - lowDay) * (high - low) / (highDay - lowDay));
+                probe = Math.max(low + 1, Math.min(probe, high - 1));
+            }
+            int width = high - low;
+            int probeDay = distinctDays[probe];
+            if (probeDay < epochDay) {
+                low = probe;
+                lowDay = probeDay;
+            } else {
+                high = probe;
+                highDay = probeDay;
+            }
+            bisectNext = !bisectNext && high - low > width / 2;
+        }
+        return resultForDistinctIndex(high, epochDay);
+    }
+
+    /**
+     * Шукає кілька дат за один виклик.
+     *
+     * @param queries Дати для пошуку
+     * @return Для кожної дати індекс першого входження або (-(точка вставки) - 1)
+     */
+    public int[] findAll(LocalDate[] queries) {
+        int[] results = new int[queries.length];
+        int[] epochDays = new int[BATCH_SIZE];
+        int[] nodes = new int[BATCH_SIZE];
+        for (int batchStart = 0; batchStart < queries.length; batchStart += BATCH_SIZE) {
+            int batchLength = Math.min(BATCH_SIZE, queries.length - batchStart);
+            for (int i = 0; i < batchLength; i++) {
+                long epochDay = queries[batchStart + i].toEpochDay();
+                if (epochDay != (int) epochDay) {
+                    results[batchStart + i] = outOfRangeResult(epochDay);
+                    // Вузол 0 позначає запит, результат якого вже відомий
+                    nodes[i] = 0;
+                } else {
+                    epochDays[i] = (int) epochDay;
+                    nodes[i] = 1;
+                }
+            }
+            searchBatch(epochDays, nodes, batchLength);
+            for (int i = 0; i < batchLength; i++) {
+                if (nodes[i] != 0) {
+                    results[batchStart + i] = resultForNode(nodes[i], epochDays[i]);
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Шукає пакет днів злиттям з різними днями індексу. Запити впорядковуються разом зі своїми
+     * номерами, після чого обидві впорядковані послідовності проходяться один раз, тому після
+     * сортування запитів пошук коштує O(q + d) замість q окремих пошуків.
+     *
+     * @param queryDays Дні від епохи в довільному порядку
+     * @return Для кожного дня в порядку запитів індекс першого входження або (-(точка вставки) - 1)
+     */
+    public int[] mergeJoin(int[] queryDays) {
+        // День у старших 32 бітах, номер запиту - у молодших, тому впорядкування long впорядковує дні
+        long[] orderedQueries = new long[queryDays.length];
+        for (int i = 0; i < queryDays.length; i++) {
+            orderedQueries[i] = ((long) queryDays[i] << 32) | i;
+        }
+        Arrays.sort(orderedQueries);
+
+        int[] results = new int[queryDays.length];
+        int distinctCount = distinctDays.length;
+        int distinctIndex = 0;
+        for (long orderedQuery : orderedQueries) {
+            int epochDay = (int) (orderedQuery >> 32);
+            while (distinctIndex < distinctCount && distinctDays[distinctIndex] < epochDay) {
+                distinctIndex++;
+            }
+            results[(int) orderedQuery] = resultForDistinctIndex(distinctIndex, epochDay);
+        }
+        return results;
+    }
+
+    /**
+     * Спускає запити пакета деревом одночасно. Повні рівні проходяться всіма запитами
+     * без перевірок меж, після чого кожен запит робить не більше одного кроку останнім рівнем.
+     */
+    private void searchBatch(int[] epochDays, int[] nodes, int batchLength) {
+        for (int level = 0; level < completeLevels; level++) {
+            for (int i = 0; i < batchLength; i++) {
+                int node = nodes[i];
+                if (node != 0) {
+                    nodes[i] = 2 * node + (eytzingerDays[node] < epochDays[i] ? 1 : 0);
+                }
+            }
+        }
+        int distinctCount = distinctDays.length;
+        for (int i = 0; i < batchLength; i++) {
+            int node = nodes[i];
+            if (node != 0 && node <= distinctCount) {
+                nodes[i] = 2 * node + (eytzingerDays[node] < epochDays[i] ? 1 : 0);
+            }
+        }
+    }
+
+    /**
+     * Перетворює вузол, на якому закінчився спуск, на результат пошуку. Кожен крок праворуч
+     * дописує до номера вузла одиницю, тому після відкидання кінцевих одиниць і ще одного біта
+     * залишається останній вузол, де спуск повернув ліворуч, - перший день, не менший за шуканий.
+     */
+    private int resultForNode(int node, int epochDay) {
+        node >>>= Integer.numberOfTrailingZeros(~node) + 1;
+        if (node == 0) {
+            return -(size + 1);
+        }
+        int firstIndex = eytzingerFirstIndexes[node];
+        return eytzingerDays[node] == epochDay ? firstIndex : -(firstIndex + 1);
+    }
+
+    /**
+     * Перетворює індекс першого різного дня, не меншого за шуканий, на результат пошуку.
+     */
+    private int resultForDistinctIndex(int distinctIndex, int epochDay) {
+        if (distinctIndex == distinctDays.length) {
+            return -(size + 1);
+        }
+        int firstIndex = firstIndexes[distinctIndex];
+        return distinctDays[distinctIndex] == epochDay ? firstIndex : -(firstIndex + 1);
+    }
+
+    private int outOfRangeResult(long epochDay) {
+        return epochDay < 0 ? -1 : -(size + 1);
+    }
+
+    /**
+     * Заповнює дерево Ейтцінгера симетричним обходом: i-й відвіданий вузол отримує i-й різний день.
+     */
+    private void fillEytzinger() {
+        int distinctCount = distinctDays.length;
+        int distinctIndex = 0;
+        int node = 1;
+        int[] pathNodes = new int[Integer.SIZE];
+        int depth = 0;
+        while (node <= distinctCount || depth > 0) {
+            if (node <= distinctCount) {
+                pathNodes[depth++] = node;
+                node = 2 * node;
+            } else {
+                node = pathNodes[--depth];
+                eytzingerDays[node] = distinctDays[distinctIndex];
+                eytzingerFirstIndexes[node] = firstIndexes[distinctIndex++];
+                node = 2 * node + 1;
+            }
+        }
+    }
+}
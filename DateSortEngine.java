@@ -0,0 +1,192 @@
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Клас DateSortEngine упорядковує дати як масиви днів від епохи, обираючи спосіб
+ * сортування за розміром і характером даних.
+ *
+ * <p>Порядок вибору:</p>
+ * <ul>
+ *   <li>До {@link #INSERTION_SORT_THRESHOLD} елементів - сортування вставками.</li>
+ *   <li>Уже впорядкований масив залишається як є, а впорядкований за спаданням - розвертається.
+ *       Обидва випадки визначаються одним проходом.</li>
+ *   <li>Якщо діапазон днів не ширший за кількість елементів (звичайно для дат),
+ *       - сортування підрахунком за O(n + діапазон).</li>
+ *   <li>На кількох ядрах для великих масивів - Arrays.parallelSort.</li>
+ *   <li>Від {@link #RADIX_SORT_THRESHOLD} елементів - порозрядне LSD-сортування байтами
+ *       зсунутих на найменший день значень, з кількістю проходів за шириною діапазону.</li>
+ *   <li>Інакше - Arrays.sort для int.</li>
+ * </ul>
+ *
+ * <p>Усі способи працюють з примітивами без компаратора та об'єктів LocalDate.</p>
+ */
+public final class DateSortEngine {
+    static final int INSERTION_SORT_THRESHOLD = 32;
+    static final int RADIX_SORT_THRESHOLD = 1 << 16;
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 20;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX_BUCKETS = 1 << RADIX_BITS;
+
+    private DateSortEngine() {
+    }
+
+    /**
+     * Упорядковує масив днів від епохи за зростанням на місці.
+     *
+     * @param epochDays Масив днів від епохи
+     */
+    public static void sort(int[] epochDays) {
+        sort(epochDays, ForkJoinPool.getCommonPoolParallelism() > 1);
+    }
+
+    /**
+     * Упорядковує масив днів від епохи за зростанням на місці.
+     *
+     * @param epochDays Масив днів від епохи
+     * @param multiCore Чи дозволено для великих масивів Arrays.parallelSort; він, як і пошук
+     *        меж діапазону, працює у спільному ForkJoinPool, тож розмір пулу цей параметр не задає
+     */
+    static void sort(int[] epochDays, boolean multiCore) {
+        int length = epochDays.length;
+        if (length < INSERTION_SORT_THRESHOLD) {
+            insertionSort(epochDays);
+            return;
+        }
+        if (isSortedOrReverse(epochDays)) {
+            return;
+        }
+
+        long packedMinMax = EpochDayMinMax.minMax(epochDays);
+        int minDay = EpochDayMinMax.min(packedMinMax);
+        long range = (long) EpochDayMinMax.max(packedMinMax) - minDay + 1;
+        if (range <= length) {
+            countingSort(epochDays, minDay, (int) range);
+        } else if (multiCore && length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(epochDays);
+        } else if (length >= RADIX_SORT_THRESHOLD) {
+            radixSort(epochDays, minDay, range);
+        } else {
+            Arrays.sort(epochDays);
+        }
+    }
+
+    /**
+     * Упорядковує список дат за зростанням на місці через масив днів від епохи.
+     * Короткі списки сортуються Collections.sort, щоб не створювати масив.
+     *
+     * @param dates Список дат
+     * @throws ArithmeticException якщо день від епохи дати не вміщується в int
+     */
+    public static void sort(List<LocalDate> dates) {
+        if (dates.size() < INSERTION_SORT_THRESHOLD) {
+            Collections.sort(dates);
+            return;
+        }
+
+        int[] epochDays = new int[dates.size()];
+        int index = 0;
+        for (LocalDate date : dates) {
+            epochDays[index++] = Math.toIntExact(date.toEpochDay());
+        }
+        sort(epochDays);
+
+        ListIterator<LocalDate> iterator = dates.listIterator();
+        for (int epochDay : epochDays) {
+            iterator.next();
+            iterator.set(LocalDate.ofEpochDay(epochDay));
+        }
+    }
+
+    private static void insertionSort(int[] epochDays) {
+        for (int i = 1; i < epochDays.length; i++) {
+            int epochDay = epochDays[i];
+            int j = i - 1;
+            while (j >= 0 && epochDays[j] > epochDay) {
+                epochDays[j + 1] = epochDays[j];
+                j--;
+            }
+            epochDays[j + 1] = epochDay;
+        }
+    }
+
+    /**
+     * Перевіряє, чи масив не спадає або не зростає. Незростаючий масив розвертається,
+     * після чого він також упорядкований.
+     *
+     * @return true, якщо масив після виклику впорядкований
+     */
+    private static boolean isSortedOrReverse(int[] epochDays) {
+        boolean ascending = true;
+        boolean descending = true;
+        for (int i = 1; i < epochDays.length && (ascending || descending); i++) {
+            ascending &= epochDays[i - 1] <= epochDays[i];
+            descending &= epochDays[i - 1] >= epochDays[i];
+        }
+        if (ascending) {
+            return true;
+        }
+        if (descending) {
+            for (int i = 0, j = epochDays.length - 1; i < j; i++, j--) {
+                int epochDay = epochDays[i];
+                epochDays[i] = epochDays[j];
+                epochDays[j] = epochDay;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void countingSort(int[] epochDays, int minDay, int range) {
+        int[] counts = new int[range];
+        for (int epochDay : epochDays) {
+            counts[epochDay - minDay]++;
+        }
+        int index = 0;
+        for (int offset = 0; offset < range; offset++) {
+            int count = counts[offset];
+            if (count > 0) {
+                Arrays.fill(epochDays, index, index + count, minDay + offset);
+                index += count;
+            }
+        }
+    }
+
+    /**
+     * Порозрядне сортування значень (день - minDay), які як беззнакові числа мають той самий порядок.
+     * Виконує лише стільки проходів по байтах, скільки потрібно для ширини діапазону.
+     */
+    private static void radixSort(int[] epochDays, int minDay, long range) {
+        int keyBits = Long.SIZE - Long.numberOfLeadingZeros(range - 1);
+        int passCount = (keyBits + RADIX_BITS - 1) / RADIX_BITS;
+
+        int[] source = epochDays;
+        int[] target = new int[epochDays.length];
+        int[] counts = new int[RADIX_BUCKETS];
+        for (int pass = 0; pass < passCount; pass++) {
+            int shift = pass * RADIX_BITS;
+            Arrays.fill(counts, 0);
+            for (int epochDay : source) {
+                counts[((epochDay - minDay) >>> shift) & (RADIX_BUCKETS - 1)]++;
+            }
+            int position = 0;
+            for (int bucket = 0; bucket < RADIX_BUCKETS; bucket++) {
+                int count = counts[bucket];
+                counts[bucket] = position;
+                position += count;
+            }
+            for (int epochDay : source) {
+                target[counts[((epochDay - minDay) >>> shift) & (RADIX_BUCKETS - 1)]++] = epochDay;
+            }
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != epochDays) {
+            System.arraycopy(source, 0, epochDays, 0, epochDays.length);
+        }
+    }
+}
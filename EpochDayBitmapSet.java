@@ -0,0 +1,508 @@
+import java.time.LocalDate;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас EpochDayBitmapSet - стиснена множина дат, що зберігає номери днів від епохи
+ * у блоках по 512 днів (приблизно рік), як контейнери roaring bitmap.
+ *
+ * <p>Блок, у якому не більше 32 дат, зберігає їх як впорядкований масив short зі зміщенням дня
+ * в блоці. Щільніший блок стає бітовою картою з восьми long (64 байти). Тому десять років
+ * щоденних дат займають близько пів кілобайта замість HashSet з окремими об'єктами LocalDate,
+ * вузлами та таблицею.</p>
+ *
+ * <ul>
+ *   <li>{@link #contains(Object)}, {@link #add(LocalDate)}, {@link #remove(Object)} - двійковий пошук
+ *       серед ключів блоків, кількість яких мала, та стала кількість операцій у блоці.</li>
+ *   <li>{@link #first()}, {@link #last()} - перший та останній встановлений біт крайніх блоків, O(1).</li>
+ *   <li>{@link #union(EpochDayBitmapSet)}, {@link #intersection(EpochDayBitmapSet)} - злиття
+ *       ключів блоків та порозрядні OR/AND над бітовими картами.</li>
+ * </ul>
+ *
+ * <p>Ітератор обходить дати за зростанням. Клас не синхронізований.</p>
+ */
+public final class EpochDayBitmapSet extends AbstractSet<LocalDate> {
+    private static final int BLOCK_SHIFT = 9;
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+    private static final int WORDS_PER_BLOCK = (1 << BLOCK_SHIFT) / Long.SIZE;
+    // Найбільша кількість дат у розрідженому блоці: 32 значення short займають стільки ж, скільки бітова карта
+    private static final int SPARSE_LIMIT = WORDS_PER_BLOCK * Long.BYTES / Short.BYTES;
+    private static final int INITIAL_BLOCK_CAPACITY = 4;
+    // Повертається пошуком наступного дня, якщо такого дня немає
+    private static final long NO_DAY = Long.MIN_VALUE;
+
+    // Ключі блоків (день від епохи >> BLOCK_SHIFT) за зростанням та відповідні блоки
+    private int[] blockKeys = new int[INITIAL_BLOCK_CAPACITY];
+    private Block[] blocks = new Block[INITIAL_BLOCK_CAPACITY];
+    private int blockCount;
+    private int size;
+
+    public EpochDayBitmapSet() {
+    }
+
+    /**
+     * Створює множину з усіх дат колонки.
+     *
+     * @param column Колонка дат
+     * @return Множина
+     */
+    public static EpochDayBitmapSet of(DateColumn column) {
+        EpochDayBitmapSet set = new EpochDayBitmapSet();
+        for (int i = 0; i < column.size(); i++) {
+            set.addEpochDay(column.epochDayAt(i));
+        }
+        return set;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        if (!(element instanceof LocalDate date)) {
+            return false;
+        }
+        long epochDay = date.toEpochDay();
+        return epochDay == (int) epochDay && containsEpochDay((int) epochDay);
+    }
+
+    /**
+     * Перевіряє наявність дня від епохи без створення LocalDate.
+     */
+    public boolean containsEpochDay(int epochDay) {
+        int blockIndex = blockIndex(epochDay >> BLOCK_SHIFT);
+        return blockIndex >= 0 && blocks[blockIndex].contains(epochDay & BLOCK_MASK);
+    }
+
+    /**
+     * @throws IllegalArgumentException якщо день від епохи дати не вміщується в int
+     */
+    @Override
+    public boolean add(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay != (int) epochDay) {
+            throw new IllegalArgumentException("Дата поза підтримуваним діапазоном: " + date);
+        }
+        return addEpochDay((int) epochDay);
+    }
+
+    /**
+     * Додає день від епохи без створення LocalDate.
+     *
+     * @return true, якщо дня ще не було в множині
+     */
+    public boolean addEpochDay(int epochDay) {
+        int key = epochDay >> BLOCK_SHIFT;
+        int blockIndex = blockIndex(key);
+        if (blockIndex < 0) {
+            blockIndex = -blockIndex - 1;
+            insertBlock(blockIndex, key, new Block());
+        }
+        if (!blocks[blockIndex].add(epochDay & BLOCK_MASK)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        if (!(element instanceof LocalDate date)) {
+            return false;
+        }
+        long epochDay = date.toEpochDay();
+        return epochDay == (int) epochDay && removeEpochDay((int) epochDay);
+    }
+
+    /**
+     * Видаляє день від епохи. Порожній блок видаляється.
+     *
+     * @return true, якщо день був у множині
+     */
+    public boolean removeEpochDay(int epochDay) {
+        int blockIndex = blockIndex(epochDay >> BLOCK_SHIFT);
+        if (blockIndex < 0 || !blocks[blockIndex].remove(epochDay & BLOCK_MASK)) {
+            return false;
+        }
+        size--;
+        if (blocks[blockIndex].count == 0) {
+            removeBlock(blockIndex);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(blocks, 0, blockCount, null);
+        blockCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Повертає найменшу дату.
+     *
+     * @throws NoSuchElementException якщо множина порожня
+     */
+    public LocalDate first() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return dayOf(0, blocks[0].first());
+    }
+
+    /**
+     * Повертає найбільшу дату.
+     *
+     * @throws NoSuchElementException якщо множина порожня
+     */
+    public LocalDate last() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int lastIndex = blockCount - 1;
+        return dayOf(lastIndex, blocks[lastIndex].last());
+    }
+
+    /**
+     * Повертає нову множину з датами, що є хоча б в одній з множин.
+     */
+    public EpochDayBitmapSet union(EpochDayBitmapSet other) {
+        EpochDayBitmapSet result = new EpochDayBitmapSet();
+        int i = 0;
+        int j = 0;
+        while (i < blockCount || j < other.blockCount) {
+            int key;
+            Block block;
+            if (j == other.blockCount || (i < blockCount && blockKeys[i] < other.blockKeys[j])) {
+                key = blockKeys[i];
+                block = blocks[i++].copy();
+            } else if (i == blockCount || other.blockKeys[j] < blockKeys[i]) {
+                key = other.blockKeys[j];
+                block = other.blocks[j++].copy();
+            } else {
+                key = blockKeys[i];
+                long[] bits = blocks[i++].toBits();
+                other.blocks[j++].orInto(bits);
+                block = Block.fromBits(bits);
+            }
+            result.appendBlock(key, block);
+        }
+        return result;
+    }
+
+    /**
+     * Повертає нову множину з датами, що є в обох множинах.
+     */
+    public EpochDayBitmapSet intersection(EpochDayBitmapSet other) {
+        EpochDayBitmapSet result = new EpochDayBitmapSet();
+        int i = 0;
+        int j = 0;
+        while (i < blockCount && j < other.blockCount) {
+            if (blockKeys[i] < other.blockKeys[j]) {
+                i++;
+            } else if (other.blockKeys[j] < blockKeys[i]) {
+                j++;
+            } else {
+                long[] bits = blocks[i].toBits();
+                other.blocks[j].andInto(bits);
+                Block block = Block.fromBits(bits);
+                if (block != null) {
+                    result.appendBlock(blockKeys[i], block);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Повертає ітератор дат за зростанням. Кожен наступний день шукається заново,
+     * тому ітератор підтримує видалення і не ламається від змін множини.
+     */
+    @Override
+    public Iterator<LocalDate> iterator() {
+        return new Iterator<>() {
+            private long nextDay = size == 0 ? NO_DAY : epochDayOf(0, blocks[0].first());
+            private long lastReturnedDay = NO_DAY;
+
+            @Override
+            public boolean hasNext() {
+                return nextDay != NO_DAY;
+            }
+
+            @Override
+            public LocalDate next() {
+                if (nextDay == NO_DAY) {
+                    throw new NoSuchElementException();
+                }
+                lastReturnedDay = nextDay;
+                nextDay = lastReturnedDay == Integer.MAX_VALUE ? NO_DAY : ceilingDay((int) lastReturnedDay + 1);
+                return LocalDate.ofEpochDay(lastReturnedDay);
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturnedDay == NO_DAY) {
+                    throw new IllegalStateException();
+                }
+                removeEpochDay((int) lastReturnedDay);
+                lastReturnedDay = NO_DAY;
+            }
+        };
+    }
+
+    /**
+     * Повертає найменший день множини, не менший за fromDay, або NO_DAY.
+     */
+    private long ceilingDay(int fromDay) {
+        int blockIndex = blockIndex(fromDay >> BLOCK_SHIFT);
+        if (blockIndex >= 0) {
+            int offset = blocks[blockIndex].ceiling(fromDay & BLOCK_MASK);
+            if (offset >= 0) {
+                return epochDayOf(blockIndex, offset);
+            }
+            blockIndex++;
+        } else {
+            blockIndex = -blockIndex - 1;
+        }
+        return blockIndex < blockCount ? epochDayOf(blockIndex, blocks[blockIndex].first()) : NO_DAY;
+    }
+
+    private long epochDayOf(int blockIndex, int offset) {
+        return ((long) blockKeys[blockIndex] << BLOCK_SHIFT) + offset;
+    }
+
+    private LocalDate dayOf(int blockIndex, int offset) {
+        return LocalDate.ofEpochDay(epochDayOf(blockIndex, offset));
+    }
+
+    private int blockIndex(int key) {
+        return Arrays.binarySearch(blockKeys, 0, blockCount, key);
+    }
+
+    private void insertBlock(int blockIndex, int key, Block block) {
+        if (blockCount == blockKeys.length) {
+            blockKeys = Arrays.copyOf(blockKeys, blockCount * 2);
+            blocks = Arrays.copyOf(blocks, blockCount * 2);
+        }
+        System.arraycopy(blockKeys, blockIndex, blockKeys, blockIndex + 1, blockCount - blockIndex);
+        System.arraycopy(blocks, blockIndex, blocks, blockIndex + 1, blockCount - blockIndex);
+        blockKeys[blockIndex] = key;
+        blocks[blockIndex] = block;
+        blockCount++;
+    }
+
+    /**
+     * Додає блок з ключем, більшим за всі наявні.
+     */
+    private void appendBlock(int key, Block block) {
+        insertBlock(blockCount, key, block);
+        size += block.count;
+    }
+
+    private void removeBlock(int blockIndex) {
+        blockCount--;
+        System.arraycopy(blockKeys, blockIndex + 1, blockKeys, blockIndex, blockCount - blockIndex);
+        System.arraycopy(blocks, blockIndex + 1, blocks, blockIndex, blockCount - blockIndex);
+        blocks[blockCount] = null;
+    }
+
+    /**
+     * Блок з 512 днів: впорядкований масив зміщень (offsets), доки дат не більше SPARSE_LIMIT,
+     * інакше бітова карта (bits). Непорожнім завжди є рівно одне з полів.
+     */
+    private static final class Block {
+        short[] offsets;
+        long[] bits;
+        int count;
+
+        Block() {
+            this.offsets = new short[SPARSE_LIMIT];
+        }
+
+        private Block(short[] offsets, long[] bits, int count) {
+            this.offsets = offsets;
+            this.bits = bits;
+            this.count = count;
+        }
+
+        /**
+         * Створює блок з бітової карти, обираючи компактніше представлення.
+         *
+         * @return Блок або null, якщо карта порожня
+         */
+        static Block fromBits(long[] bits) {
+            int count = 0;
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+            if (count == 0) {
+                return null;
+            }
+            if (count > SPARSE_LIMIT) {
+                return new Block(null, bits, count);
+            }
+            return new Block(offsetsOf(bits), null, count);
+        }
+
+        Block copy() {
+            return new Block(offsets != null ? offsets.clone() : null, bits != null ? bits.clone() : null, count);
+        }
+
+        boolean contains(int offset) {
+            if (bits != null) {
+                return (bits[offset >>> 6] & (1L << offset)) != 0;
+            }
+            return Arrays.binarySearch(offsets, 0, count, (short) offset) >= 0;
+        }
+
+        boolean add(int offset) {
+            if (bits != null) {
+                long mask = 1L << offset;
+                if ((bits[offset >>> 6] & mask) != 0) {
+                    return false;
+                }
+                bits[offset >>> 6] |= mask;
+                count++;
+                return true;
+            }
+
+            int position = Arrays.binarySearch(offsets, 0, count, (short) offset);
+            if (position >= 0) {
+                return false;
+            }
+            if (count == SPARSE_LIMIT) {
+                // Розріджений блок заповнений - переходимо до бітової карти
+                bits = toBits();
+                offsets = null;
+                return add(offset);
+            }
+            position = -position - 1;
+            System.arraycopy(offsets, position, offsets, position + 1, count - position);
+            offsets[position] = (short) offset;
+            count++;
+            return true;
+        }
+
+        boolean remove(int offset) {
+            if (bits != null) {
+                long mask = 1L << offset;
+                if ((bits[offset >>> 6] & mask) == 0) {
+                    return false;
+                }
+                bits[offset >>> 6] &= ~mask;
+                count--;
+                if (count == SPARSE_LIMIT) {
+                    offsets = offsetsOf(bits);
+                    bits = null;
+                }
+                return true;
+            }
+
+            int position = Arrays.binarySearch(offsets, 0, count, (short) offset);
+            if (position < 0) {
+                return false;
+            }
+            count--;
+            System.arraycopy(offsets, position + 1, offsets, position, count - position);
+            return true;
+        }
+
+        int first() {
+            if (bits == null) {
+                return offsets[0];
+            }
+            for (int word = 0; word < WORDS_PER_BLOCK; word++) {
+                if (bits[word] != 0) {
+                    return word * Long.SIZE + Long.numberOfTrailingZeros(bits[word]);
+                }
+            }
+            throw new IllegalStateException("Порожній блок");
+        }
+
+        int last() {
+            if (bits == null) {
+                return offsets[count - 1];
+            }
+            for (int word = WORDS_PER_BLOCK - 1; word >= 0; word--) {
+                if (bits[word] != 0) {
+                    return word * Long.SIZE + Long.SIZE - 1 - Long.numberOfLeadingZeros(bits[word]);
+                }
+            }
+            throw new IllegalStateException("Порожній блок");
+        }
+
+        /**
+         * Повертає найменше зміщення блоку, не менше за offset, або -1.
+         */
+        int ceiling(int offset) {
+            if (bits == null) {
+                int position = Arrays.binarySearch(offsets, 0, count, (short) offset);
+                if (position < 0) {
+                    position = -position - 1;
+                }
+                return position < count ? offsets[position] : -1;
+            }
+            int word = offset >>> 6;
+            long remaining = bits[word] & (-1L << offset);
+            while (remaining == 0) {
+                if (++word == WORDS_PER_BLOCK) {
+                    return -1;
+                }
+                remaining = bits[word];
+            }
+            return word * Long.SIZE + Long.numberOfTrailingZeros(remaining);
+        }
+
+        /**
+         * Повертає нову бітову карту з днями блоку.
+         */
+        long[] toBits() {
+            if (bits != null) {
+                return bits.clone();
+            }
+            long[] result = new long[WORDS_PER_BLOCK];
+            for (int i = 0; i < count; i++) {
+                result[offsets[i] >>> 6] |= 1L << offsets[i];
+            }
+            return result;
+        }
+
+        void orInto(long[] target) {
+            if (bits == null) {
+                for (int i = 0; i < count; i++) {
+                    target[offsets[i] >>> 6] |= 1L << offsets[i];
+                }
+                return;
+            }
+            for (int word = 0; word < WORDS_PER_BLOCK; word++) {
+                target[word] |= bits[word];
+            }
+        }
+
+        void andInto(long[] target) {
+            long[] ownBits = bits != null ? bits : toBits();
+            for (int word = 0; word < WORDS_PER_BLOCK; word++) {
+                target[word] &= ownBits[word];
+            }
+        }
+
+        private static short[] offsetsOf(long[] bits) {
+            short[] offsets = new short[SPARSE_LIMIT];
+            int index = 0;
+            for (int word = 0; word < WORDS_PER_BLOCK; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    offsets[index++] = (short) (word * Long.SIZE + Long.numberOfTrailingZeros(remaining));
+                    remaining &= remaining - 1;
+                }
+            }
+            return offsets;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Клас EpochDayMinMax визначає найменший і найбільший день від епохи за один прохід масиву.
+ *
+ * <p>Цикл не має розгалужень: Math.min та Math.max для int компілятор C2 замінює на
+ * інструкції вибору без переходів, а там, де процесор це підтримує, може векторизувати
+ * редукцію. Обидва результати пакуються в один long, щоб не створювати об'єкт:
+ * найменший день у старших 32 бітах, найбільший - у молодших.</p>
+ *
+ * <p>Масиви від {@link #PARALLEL_THRESHOLD} елементів діляться на частини, які обробляються
+ * завданнями fork-join, якщо пул має більше одного потоку.</p>
+ */
+public final class EpochDayMinMax {
+    // Найменший розмір масиву, для якого варто ділити роботу між потоками
+    static final int PARALLEL_THRESHOLD = 1 << 21;
+    // Розмір частини, яку завдання обробляє в одному потоці
+    private static final int SEQUENTIAL_CHUNK = 1 << 18;
+
+    private EpochDayMinMax() {
+    }
+
+    /**
+     * Визначає граничні дні масиву у спільному ForkJoinPool.
+     *
+     * @param epochDays Непорожній масив днів від епохи
+     * @return Упаковані найменший та найбільший дні
+     * @see #minMax(int[], ForkJoinPool)
+     */
+    public static long minMax(int[] epochDays) {
+        return minMax(epochDays, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Визначає граничні дні масиву, ділячи великі масиви між потоками пулу.
+     *
+     * @param epochDays Непорожній масив днів від епохи
+     * @param forkJoinPool Пул потоків для великих масивів
+     * @return Упаковані найменший та найбільший дні
+     */
+    public static long minMax(int[] epochDays, ForkJoinPool forkJoinPool) {
+        if (epochDays.length == 0) {
+            throw new IllegalArgumentException("Масив днів порожній");
+        }
+        if (epochDays.length < PARALLEL_THRESHOLD || forkJoinPool.getParallelism() < 2) {
+            return minMax(epochDays, 0, epochDays.length);
+        }
+        return forkJoinPool.invoke(new MinMaxTask(epochDays, 0, epochDays.length));
+    }
+
+    /**
+     * Визначає граничні дні непорожнього діапазону [from, to) в поточному потоці.
+     *
+     * @return Упаковані найменший та найбільший дні
+     */
+    public static long minMax(int[] epochDays, int from, int to) {
+        int minDay = epochDays[from];
+        int maxDay = minDay;
+        for (int i = from + 1; i < to; i++) {
+            int epochDay = epochDays[i];
+            minDay = Math.min(minDay, epochDay);
+            maxDay = Math.max(maxDay, epochDay);
+        }
+        return pack(minDay, maxDay);
+    }
+
+    /**
+     * Повертає найменший день з упакованого результату.
+     */
+    public static int min(long packedMinMax) {
+        return (int) (packedMinMax >> 32);
+    }
+
+    /**
+     * Повертає найбільший день з упакованого результату.
+     */
+    public static int max(long packedMinMax) {
+        return (int) packedMinMax;
+    }
+
+    /**
+     * Пакує найменший та найбільший дні в одне значення long.
+     */
+    static long pack(int minDay, int maxDay) {
+        return ((long) minDay << 32) | (maxDay & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Завдання fork-join, що ділить діапазон навпіл до розміру SEQUENTIAL_CHUNK
+     * і об'єднує граничні дні половин.
+     */
+    private static final class MinMaxTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] epochDays;
+        private final int from;
+        private final int to;
+
+        MinMaxTask(int[] epochDays, int from, int to) {
+            this.epochDays = epochDays;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= SEQUENTIAL_CHUNK) {
+                return minMax(epochDays, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            MinMaxTask firstHalf = new MinMaxTask(epochDays, from, middle);
+            firstHalf.fork();
+            long secondMinMax = new MinMaxTask(epochDays, middle, to).compute();
+            long firstMinMax = firstHalf.join();
+            return pack(Math.min(min(firstMinMax), min(secondMinMax)), Math.max(max(firstMinMax), max(secondMinMax)));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Клас MetricsRegistry накопичує вимірювання тривалості операцій за їхніми назвами.
+ *
+ * <p>Кожна назва операції отримує власну гістограму, створену один раз під час першого запису.
+ * Подальші записи лише збільшують атомарні лічильники, не створюючи об'єктів і не блокуючи потоки.
+ * Звіт формується окремим кроком після завершення вимірювань.</p>
+ */
+public class MetricsRegistry {
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    // Порядок першої появи операцій для стабільного звіту
+    private final List<String> operationNames = new CopyOnWriteArrayList<>();
+
+    /**
+     * Записує одне вимірювання тривалості операції.
+     *
+     * @param operationName Назва операції
+     * @param durationNanos Тривалість у наносекундах
+     */
+    public void record(String operationName, long durationNanos) {
+        histogramFor(operationName).record(durationNanos);
+    }
+
+    /**
+     * Додає вимірювання іншого реєстру, позначаючи його операції вказаною назвою джерела.
+     * Нові операції потрапляють у кінець звіту в порядку їхньої першої появи в іншому реєстрі.
+     *
+     * @param other Реєстр, вимірювання якого додаються; під час виклику в нього не записують
+     * @param sourceName Назва джерела, яка додається перед назвою кожної операції
+     */
+    public void addAll(MetricsRegistry other, String sourceName) {
+        for (String operationName : other.operationNames) {
+            histogramFor(sourceName + ": " + operationName).add(other.histograms.get(operationName));
+        }
+    }
+
+    private LatencyHistogram histogramFor(String operationName) {
+        LatencyHistogram histogram = histograms.get(operationName);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(operationName, name -> {
+                operationNames.add(name);
+                return new LatencyHistogram();
+            });
+        }
+        return histogram;
+    }
+
+    /**
+     * Повертає гістограму операції або null, якщо для неї ще немає записів.
+     */
+    public LatencyHistogram getHistogram(String operationName) {
+        return histograms.get(operationName);
+    }
+
+    /**
+     * Видаляє всі накопичені вимірювання.
+     */
+    public void clear() {
+        histograms.clear();
+        operationNames.clear();
+    }
+
+    /**
+     * Виводить таблицю з кількістю вимірювань, перцентилями p50/p90/p99 та максимумом для кожної операції.
+     *
+     * @param out Потік виводу
+     */
+    public void printReport(PrintStream out) {
+        out.println("\n========= Тривалість операцій, нс =========");
+        out.println(String.format("%-64s %9s %12s %12s %12s %12s", "Операція", "Кількість", "p50", "p90", "p99", "max"));
+
+        for (String operationName : operationNames) {
+            LatencyHistogram histogram = histograms.get(operationName);
+            if (histogram == null || histogram.getCount() == 0) {
+                continue;
+            }
+            out.println(String.format("%-64s %9d %12d %12d %12d %12d",
+                    operationName,
+                    histogram.getCount(),
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getMax()));
+        }
+    }
+
+    /**
+     * Гістограма тривалостей з логарифмічно-лінійними інтервалами (за зразком HdrHistogram).
+     *
+     * <p>Значення до 2^(SUB_BUCKET_BITS + 1) зберігаються точно, більші - з відносною
+     * похибкою не більше 1/2^SUB_BUCKET_BITS (менше 1%). Усі лічильники виділяються
+     * під час створення, тому запис не створює об'єктів.</p>
+     */
+    public static final class LatencyHistogram {
+        private static final int SUB_BUCKET_BITS = 7;
+        private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+        // Інтервали для всіх невід'ємних значень long
+        private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong totalCount = new AtomicLong();
+        private final AtomicLong maxValue = new AtomicLong();
+
+        /**
+         * Записує одне значення. Від'ємні значення вважаються нулем.
+         */
+        public void record(long value) {
+            if (value < 0) {
+                value = 0;
+            }
+            counts.incrementAndGet(bucketIndex(value));
+            totalCount.incrementAndGet();
+
+            long currentMax = maxValue.get();
+            while (value > currentMax && !maxValue.compareAndSet(currentMax, value)) {
+                currentMax = maxValue.get();
+            }
+        }
+
+        /**
+         * Додає всі значення іншої гістограми.
+         */
+        public void add(LatencyHistogram other) {
+            for (int index = 0; index < BUCKET_COUNT; index++) {
+                long bucketCount = other.counts.get(index);
+                if (bucketCount != 0) {
+                    counts.addAndGet(index, bucketCount);
+                }
+            }
+            totalCount.addAndGet(other.getCount());
+
+            long otherMax = other.getMax();
+            long currentMax = maxValue.get();
+            while (otherMax > currentMax && !maxValue.compareAndSet(currentMax, otherMax)) {
+                currentMax = maxValue.get();
+            }
+        }
+
+        public long getCount() {
+            return totalCount.get();
+        }
+
+        public long getMax() {
+            return maxValue.get();
+        }
+
+        /**
+         * Повертає значення, не більше за яке є вказаний відсоток вимірювань.
+         *
+         * @param percentile Перцентиль від 0 до 100
+         * @return Верхня межа відповідного інтервалу (не більша за максимум) або 0, якщо записів немає
+         */
+        public long getValueAtPercentile(double percentile) {
+            long count = getCount();
+            if (count == 0) {
+                return 0;
+            }
+            long targetCount = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+
+            long cumulativeCount = 0;
+            for (int index = 0; index < BUCKET_COUNT; index++) {
+                cumulativeCount += counts.get(index);
+                if (cumulativeCount >= targetCount) {
+                    return Math.min(highestValueInBucket(index), getMax());
+                }
+            }
+            return getMax();
+        }
+
+        private static int bucketIndex(long value) {
+            if (value < SUB_BUCKET_COUNT) {
+                return (int) value;
+            }
+            int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+            int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+            return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+        }
+
+        private static long highestValueInBucket(int index) {
+            if (index < SUB_BUCKET_COUNT) {
+                return index;
+            }
+            int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+            int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+            long lowestValue = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+            return lowestValue + (1L << shift) - 1;
+        }
+    }
+}
@@ -0,0 +1,462 @@
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Клас MinMaxPriorityQueue - черга з пріоритетом, з якої можна брати елементи з обох кінців.
+ *
+ * <p>Реалізована як min-max купа: на парних рівнях дерева (корінь - рівень 0) кожен вузол
+ * не більший за всіх своїх нащадків, на непарних - не менший. Тому найменший елемент
+ * завжди в корені, а найбільший - серед двох його дітей.</p>
+ *
+ * <ul>
+ *   <li>{@link #peekFirst()}, {@link #peekLast()} - O(1).</li>
+ *   <li>{@link #contains(Object)} - O(1).</li>
+ *   <li>{@link #offer(Object)}, {@link #pollFirst()}, {@link #pollLast()} - O(log n).</li>
+ *   <li>{@link #remove(Object)}, {@link #replace(Object, Object)} - O(log n).</li>
+ *   <li>Створення з колекції - O(n).</li>
+ * </ul>
+ *
+ * <p>Кожен вузол купи зберігає один різний елемент разом з кількістю його повторень,
+ * а хеш-індекс зберігає позицію вузла для кожного елемента. Тому {@link #contains(Object)}
+ * коштує O(1), а {@link #remove(Object)} та {@link #replace(Object, Object)} - O(log n)
+ * замість лінійного пошуку в масиві купи. Елементи, рівні за equals(), мають бути
+ * рівними й за порядком черги.</p>
+ *
+ * <p>Ітератор обходить елементи в довільному порядку (повтори поспіль). Його remove() видаляє
+ * одне входження за O(log n), тому removeIf, removeAll та retainAll коштують O(n + k log n)
+ * для k видалених елементів. Клас не синхронізований.</p>
+ *
+ * @param <E> Тип елементів
+ */
+public class MinMaxPriorityQueue<E> extends AbstractQueue<E> {
+    private static final int DEFAULT_INITIAL_CAPACITY = 11;
+
+    private final Comparator<? super E> comparator;
+    // Різні елементи у порядку min-max купи та кількість повторень кожного з них
+    private Object[] heap;
+    private int[] counts;
+    private final Map<Object, Integer> positions = new HashMap<>();
+    private int nodeCount;
+    private int size;
+    private int modCount;
+    // false лише під час побудови з колекції: індекс заповнюється після впорядкування купи
+    private boolean positionsTracked = true;
+
+    /**
+     * Створює порожню чергу з природним порядком елементів.
+     */
+    public MinMaxPriorityQueue() {
+        this((Comparator<? super E>) null);
+    }
+
+    /**
+     * Створює порожню чергу з указаним порядком.
+     *
+     * @param comparator Компаратор або null для природного порядку
+     */
+    public MinMaxPriorityQueue(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        this.heap = new Object[DEFAULT_INITIAL_CAPACITY];
+        this.counts = new int[DEFAULT_INITIAL_CAPACITY];
+    }
+
+    /**
+     * Створює чергу з елементів колекції з природним порядком за O(n).
+     *
+     * @param elements Елементи черги
+     */
+    public MinMaxPriorityQueue(Collection<? extends E> elements) {
+        this.comparator = null;
+        Map<Object, Integer> elementCounts = new HashMap<>();
+        for (E element : elements) {
+            elementCounts.merge(Objects.requireNonNull(element), 1, Integer::sum);
+        }
+
+        int capacity = Math.max(elementCounts.size(), DEFAULT_INITIAL_CAPACITY);
+        this.heap = new Object[capacity];
+        this.counts = new int[capacity];
+        for (Map.Entry<Object, Integer> entry : elementCounts.entrySet()) {
+            heap[nodeCount] = entry.getKey();
+            counts[nodeCount++] = entry.getValue();
+            size += entry.getValue();
+        }
+        // Алгоритм Флойда: просіюємо вниз усі внутрішні вузли, починаючи з останнього
+        positionsTracked = false;
+        for (int i = (nodeCount >>> 1) - 1; i >= 0; i--) {
+            trickleDown(i);
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            positions.put(heap[i], i);
+        }
+        positionsTracked = true;
+    }
+
+    @Override
+    public boolean offer(E element) {
+        Objects.requireNonNull(element);
+        modCount++;
+        size++;
+        Integer position = positions.get(element);
+        if (position != null) {
+            counts[position]++;
+            return true;
+        }
+
+        if (nodeCount == heap.length) {
+            int newCapacity = nodeCount + (nodeCount >>> 1) + 1;
+            heap = Arrays.copyOf(heap, newCapacity);
+            counts = Arrays.copyOf(counts, newCapacity);
+        }
+        heap[nodeCount] = element;
+        counts[nodeCount] = 1;
+        positions.put(element, nodeCount);
+        bubbleUp(nodeCount++);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    /**
+     * Повертає найменший елемент або null, якщо черга порожня.
+     */
+    public E peekFirst() {
+        return size == 0 ? null : elementAt(0);
+    }
+
+    /**
+     * Повертає найбільший елемент або null, якщо черга порожня.
+     */
+    public E peekLast() {
+        return size == 0 ? null : elementAt(maxIndex());
+    }
+
+    /**
+     * Видаляє та повертає найменший елемент або null, якщо черга порожня.
+     */
+    public E pollFirst() {
+        return size == 0 ? null : removeOneAt(0);
+    }
+
+    /**
+     * Видаляє та повертає найбільший елемент або null, якщо черга порожня.
+     */
+    public E pollLast() {
+        return size == 0 ? null : removeOneAt(maxIndex());
+    }
+
+    /**
+     * Перевіряє наявність елемента за хеш-індексом. Коштує O(1).
+     */
+    @Override
+    public boolean contains(Object element) {
+        return element != null && positions.containsKey(element);
+    }
+
+    /**
+     * Видаляє одне входження елемента. Коштує O(log n).
+     */
+    @Override
+    public boolean remove(Object element) {
+        Integer position = element != null ? positions.get(element) : null;
+        if (position == null) {
+            return false;
+        }
+        removeOneAt(position);
+        return true;
+    }
+
+    /**
+     * Замінює одне входження елемента іншим, тобто зменшує або збільшує його пріоритет.
+     * Коштує O(log n).
+     *
+     * @param oldElement Елемент, що замінюється
+     * @param newElement Новий елемент
+     * @return true, якщо старий елемент був у черзі
+     */
+    public boolean replace(E oldElement, E newElement) {
+        Objects.requireNonNull(newElement);
+        if (!remove(oldElement)) {
+            return false;
+        }
+        offer(newElement);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        modCount++;
+        Arrays.fill(heap, 0, nodeCount, null);
+        positions.clear();
+        nodeCount = 0;
+        size = 0;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Ітератор по вузлах купи. Видалення переставляє вузли, тому під час першого remove()
+     * ітератор копіює ще не обійдені вузли і далі обходить копію, а сама купа змінюється
+     * звичайним {@link #remove(Object)}.
+     */
+    private final class Itr implements Iterator<E> {
+        private int expectedModCount = modCount;
+        // Вузли, що обходяться: масиви купи або, після першого видалення, копія необійденої частини
+        private Object[] nodes = heap;
+        private int[] nodeCounts = counts;
+        private int nodeLimit = nodeCount;
+        private boolean copied;
+        private int node;
+        private int repeat;
+        private E lastReturned;
+
+        @Override
+        public boolean hasNext() {
+            return node < nodeLimit;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+            if (node >= nodeLimit) {
+                throw new NoSuchElementException();
+            }
+            E element = (E) nodes[node];
+            if (++repeat == nodeCounts[node]) {
+                node++;
+                repeat = 0;
+            }
+            lastReturned = element;
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (!copied) {
+                nodes = Arrays.copyOfRange(heap, node, nodeCount);
+                nodeCounts = Arrays.copyOfRange(counts, node, nodeCount);
+                nodeLimit = nodeCount - node;
+                node = 0;
+                copied = true;
+            }
+            MinMaxPriorityQueue.this.remove(lastReturned);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Повертає індекс найбільшого елемента: корінь або більша з його дітей.
+     */
+    private int maxIndex() {
+        if (nodeCount <= 2) {
+            return nodeCount - 1;
+        }
+        return compare(1, 2) >= 0 ? 1 : 2;
+    }
+
+    /**
+     * Видаляє одне входження елемента вузла, а сам вузол - лише після останнього входження.
+     */
+    private E removeOneAt(int index) {
+        modCount++;
+        size--;
+        E removed = elementAt(index);
+        if (--counts[index] == 0) {
+            removeNodeAt(index);
+        }
+        return removed;
+    }
+
+    private void removeNodeAt(int index) {
+        positions.remove(heap[index]);
+        int lastIndex = --nodeCount;
+        Object lastElement = heap[lastIndex];
+        int lastCount = counts[lastIndex];
+        heap[lastIndex] = null;
+        if (index != lastIndex) {
+            // Звільнене місце опускаємо до листка, а туди ставимо останній вузол, як під час додавання
+            int leaf = moveHoleToLeaf(index);
+            heap[leaf] = lastElement;
+            counts[leaf] = lastCount;
+            positions.put(lastElement, leaf);
+            bubbleUp(leaf);
+        }
+    }
+
+    /**
+     * Заповнює порожнє місце найменшим (рівень min) або найбільшим (рівень max) з дітей та онуків,
+     * доки порожнє місце не опиниться в листку.
+     *
+     * @return Індекс листка, що залишився порожнім
+     */
+    private int moveHoleToLeaf(int hole) {
+        while (2 * hole + 1 < nodeCount) {
+            int extreme = extremeDescendant(hole, isMinLevel(hole));
+            heap[hole] = heap[extreme];
+            counts[hole] = counts[extreme];
+            positions.put(heap[hole], hole);
+            hole = extreme;
+        }
+        return hole;
+    }
+
+    private void bubbleUp(int index) {
+        if (index == 0) {
+            return;
+        }
+        int parent = parent(index);
+        if (isMinLevel(index)) {
+            if (compare(index, parent) > 0) {
+                swap(index, parent);
+                bubbleUpGrandparents(parent, false);
+            } else {
+                bubbleUpGrandparents(index, true);
+            }
+        } else {
+            if (compare(index, parent) < 0) {
+                swap(index, parent);
+                bubbleUpGrandparents(parent, true);
+            } else {
+                bubbleUpGrandparents(index, false);
+            }
+        }
+    }
+
+    /**
+     * Піднімає елемент рівнями одного типу (через рівень), доки він менший (minLevel)
+     * або більший (!minLevel) за діда.
+     */
+    private void bubbleUpGrandparents(int index, boolean minLevel) {
+        while (index > 2) {
+            int grandparent = parent(parent(index));
+            int comparison = compare(index, grandparent);
+            if (minLevel ? comparison >= 0 : comparison <= 0) {
+                return;
+            }
+            swap(index, grandparent);
+            index = grandparent;
+        }
+    }
+
+    private void trickleDown(int index) {
+        boolean minLevel = isMinLevel(index);
+        while (true) {
+            int firstChild = 2 * index + 1;
+            if (firstChild >= nodeCount) {
+                return;
+            }
+
+            int extreme = extremeDescendant(index, minLevel);
+            int comparison = compare(extreme, index);
+            if (minLevel ? comparison >= 0 : comparison <= 0) {
+                return;
+            }
+            swap(extreme, index);
+            if (extreme <= firstChild + 1) {
+                // Дитина лежить на рівні протилежного типу, і нижче неї порядок не порушено
+                return;
+            }
+
+            // Елемент опустився до онука; він має залишатися по правильний бік від батька онука
+            int parentOfExtreme = parent(extreme);
+            int parentComparison = compare(extreme, parentOfExtreme);
+            if (minLevel ? parentComparison > 0 : parentComparison < 0) {
+                swap(extreme, parentOfExtreme);
+            }
+            index = extreme;
+        }
+    }
+
+    /**
+     * Повертає індекс найменшого (minLevel) або найбільшого (!minLevel) серед дітей та онуків вузла.
+     * Вузол повинен мати хоча б одну дитину.
+     */
+    private int extremeDescendant(int index, boolean minLevel) {
+        int firstChild = 2 * index + 1;
+        int extreme = firstChild;
+        if (firstChild + 1 < nodeCount) {
+            extreme = better(firstChild + 1, extreme, minLevel);
+        }
+        int lastGrandchild = Math.min(4 * index + 6, nodeCount - 1);
+        for (int grandchild = 4 * index + 3; grandchild <= lastGrandchild; grandchild++) {
+            extreme = better(grandchild, extreme, minLevel);
+        }
+        return extreme;
+    }
+
+    private int better(int candidate, int current, boolean minLevel) {
+        int comparison = compare(candidate, current);
+        return (minLevel ? comparison < 0 : comparison > 0) ? candidate : current;
+    }
+
+    private static int parent(int index) {
+        return (index - 1) >>> 1;
+    }
+
+    private static boolean isMinLevel(int index) {
+        // Рівень вузла - номер старшого біта (index + 1)
+        return ((31 - Integer.numberOfLeadingZeros(index + 1)) & 1) == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compare(int firstIndex, int secondIndex) {
+        E first = (E) heap[firstIndex];
+        E second = (E) heap[secondIndex];
+        return comparator != null
+                ? comparator.compare(first, second)
+                : ((Comparable<? super E>) first).compareTo(second);
+    }
+
+    private void swap(int firstIndex, int secondIndex) {
+        Object element = heap[firstIndex];
+        heap[firstIndex] = heap[secondIndex];
+        heap[secondIndex] = element;
+        int count = counts[firstIndex];
+        counts[firstIndex] = counts[secondIndex];
+        counts[secondIndex] = count;
+        if (positionsTracked) {
+            positions.put(heap[firstIndex], firstIndex);
+            positions.put(heap[secondIndex], secondIndex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int index) {
+        return (E) heap[index];
+    }
+}
@@ -1,16 +1,62 @@
+import java.io.PrintStream;
+
 /**
  * Клас PerformanceTracker відстежує продуктивність операцій з даними.
+ * 
+ * <p>Вимірювання накопичуються в реєстрі метрик без виводу на консоль,
+ * а підсумковий звіт виводиться один раз методом {@link #printReport(PrintStream)}.
+ * Дії, запущені через {@link #recordSeparately(Runnable)}, записують вимірювання свого потоку
+ * до окремого реєстру, щоб паралельні обробники не змішували порядок рядків звіту.</p>
  */
 public class PerformanceTracker {
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+    // Реєстр, до якого записує поточний потік замість спільного, або null
+    private static final ThreadLocal<MetricsRegistry> SEPARATE_REGISTRY = new ThreadLocal<>();
+
     /**
-     * Відображає тривалість виконання операції в наносекундах.
+     * Записує тривалість виконання операції в наносекундах до реєстру метрик.
      * 
      * @param startTime Початковий час операції в наносекундах.
      * @param operationName Назва операції.
      */
-    public static void displayOperationTime(long startTime, String operationName) {
+    public static void recordOperationTime(long startTime, String operationName) {
         long finishTime = System.nanoTime();
-        long executionTime = (finishTime - startTime);
-        System.out.println("\n========= Тривалість операції '" + operationName + "': " + executionTime + " нс =========");
+        MetricsRegistry separateRegistry = SEPARATE_REGISTRY.get();
+        (separateRegistry != null ? separateRegistry : REGISTRY).record(operationName, finishTime - startTime);
+    }
+
+    /**
+     * Виконує дію, записуючи вимірювання поточного потоку до нового окремого реєстру.
+     * Його можна пізніше додати до спільного через {@link MetricsRegistry#addAll(MetricsRegistry)}.
+     * 
+     * @param action Дія, вимірювання якої збираються окремо.
+     * @return Реєстр з вимірюваннями дії.
+     */
+    public static MetricsRegistry recordSeparately(Runnable action) {
+        MetricsRegistry separateRegistry = new MetricsRegistry();
+        MetricsRegistry previousRegistry = SEPARATE_REGISTRY.get();
+        SEPARATE_REGISTRY.set(separateRegistry);
+        try {
+            action.run();
+        } finally {
+            SEPARATE_REGISTRY.set(previousRegistry);
+        }
+        return separateRegistry;
+    }
+
+    /**
+     * Виводить звіт з перцентилями тривалості всіх записаних операцій.
+     * 
+     * @param out Потік виводу.
+     */
+    public static void printReport(PrintStream out) {
+        REGISTRY.printReport(out);
+    }
+
+    /**
+     * Повертає реєстр метрик, до якого записуються вимірювання.
+     */
+    public static MetricsRegistry getRegistry() {
+        return REGISTRY;
     }
 }
\ No newline at end of file
@@ -0,0 +1,234 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Клас PetColumnStore зберігає записи тварина-власник у стовпцях.
+ *
+ * <p>Види та імена власників повторюються в багатьох записах, тому кожне різне значення
+ * зберігається один раз у словнику, а записи містять лише його номер у масиві int.
+ * Клички здебільшого унікальні й зберігаються як є. Запис займає 8 байтів у стовпцях
+ * видів і власників замість двох посилань на рядки та об'єктів Pet і Map.Entry,
+ * а вибірки та групування за власником чи видом порівнюють числа замість рядків.</p>
+ *
+ * <p>Сховище не синхронізоване: змінювати його може лише один потік.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #of(Map)} - Створює сховище з вмістом Map.</li>
+ *   <li>{@link #add(String, String, String)} - Додає запис.</li>
+ *   <li>{@link #rowsOwnedBy(String)} - Повертає номери записів власника.</li>
+ *   <li>{@link #rowsOfSpecies(String)} - Повертає номери записів виду.</li>
+ *   <li>{@link #countByOwner()} - Групує записи за власником.</li>
+ *   <li>{@link #countBySpecies()} - Групує записи за видом.</li>
+ *   <li>{@link #removeAllOwnedBy(String)} - Видаляє всі записи власника.</li>
+ * </ul>
+ */
+public final class PetColumnStore {
+    private static final int INITIAL_CAPACITY = 16;
+    // Код для тварини без виду
+    private static final int NO_SPECIES = -1;
+
+    private final StringDictionary speciesDictionary = new StringDictionary();
+    private final StringDictionary ownerDictionary = new StringDictionary();
+
+    private String[] nicknames = new String[INITIAL_CAPACITY];
+    private int[] speciesCodes = new int[INITIAL_CAPACITY];
+    private int[] ownerCodes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Створює сховище з вмістом Map у порядку її обходу.
+     *
+     * @param source Map з ключами Pet та іменами власників
+     * @return Сховище
+     */
+    public static PetColumnStore of(Map<BasicDataOperationUsingMap.Pet, String> source) {
+        PetColumnStore store = new PetColumnStore();
+        for (Map.Entry<BasicDataOperationUsingMap.Pet, String> entry : source.entrySet()) {
+            store.add(entry.getKey().getNickname(), entry.getKey().getSpecies(), entry.getValue());
+        }
+        return store;
+    }
+
+    /**
+     * Додає запис. Сховище не перевіряє, чи є вже запис з такою твариною.
+     *
+     * @param nickname Кличка тварини
+     * @param species Вид тварини (може бути null)
+     * @param owner Ім'я власника
+     */
+    public void add(String nickname, String species, String owner) {
+        if (size == nicknames.length) {
+            int newCapacity = size * 2;
+            nicknames = Arrays.copyOf(nicknames, newCapacity);
+            speciesCodes = Arrays.copyOf(speciesCodes, newCapacity);
+            ownerCodes = Arrays.copyOf(ownerCodes, newCapacity);
+        }
+        nicknames[size] = nickname;
+        speciesCodes[size] = species != null ? speciesDictionary.encode(species) : NO_SPECIES;
+        ownerCodes[size] = ownerDictionary.encode(owner);
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Повертає тварину запису.
+     */
+    public BasicDataOperationUsingMap.Pet petAt(int row) {
+        checkRow(row);
+        int speciesCode = speciesCodes[row];
+        return BasicDataOperationUsingMap.Pet.of(nicknames[row],
+                speciesCode != NO_SPECIES ? speciesDictionary.decode(speciesCode) : null);
+    }
+
+    /**
+     * Повертає ім'я власника запису.
+     */
+    public String ownerAt(int row) {
+        checkRow(row);
+        return ownerDictionary.decode(ownerCodes[row]);
+    }
+
+    /**
+     * Повертає номери записів власника у порядку зберігання.
+     */
+    public int[] rowsOwnedBy(String owner) {
+        return rowsWithCode(ownerCodes, ownerDictionary.codeOf(owner));
+    }
+
+    /**
+     * Повертає номери записів тварин указаного виду у порядку зберігання.
+     */
+    public int[] rowsOfSpecies(String species) {
+        return rowsWithCode(speciesCodes, speciesDictionary.codeOf(species));
+    }
+
+    /**
+     * Повертає кількість записів кожного власника у порядку першої появи власника.
+     */
+    public Map<String, Integer> countByOwner() {
+        return countByCode(ownerCodes, ownerDictionary);
+    }
+
+    /**
+     * Повертає кількість тварин кожного виду у порядку першої появи виду.
+     * Тварини без виду не враховуються.
+     */
+    public Map<String, Integer> countBySpecies() {
+        return countByCode(speciesCodes, speciesDictionary);
+    }
+
+    /**
+     * Видаляє всі записи власника, зберігаючи порядок решти записів. Коштує O(n).
+     *
+     * @return Кількість видалених записів
+     */
+    public int removeAllOwnedBy(String owner) {
+        int ownerCode = ownerDictionary.codeOf(owner);
+        if (ownerCode < 0) {
+            return 0;
+        }
+
+        int keptCount = 0;
+        for (int row = 0; row < size; row++) {
+            if (ownerCodes[row] != ownerCode) {
+                nicknames[keptCount] = nicknames[row];
+                speciesCodes[keptCount] = speciesCodes[row];
+                ownerCodes[keptCount] = ownerCodes[row];
+                keptCount++;
+            }
+        }
+        // Звільняємо посилання на клички видалених записів
+        Arrays.fill(nicknames, keptCount, size, null);
+
+        int removedCount = size - keptCount;
+        size = keptCount;
+        return removedCount;
+    }
+
+    private int[] rowsWithCode(int[] codes, int code) {
+        if (code < 0) {
+            return new int[0];
+        }
+        int matchCount = 0;
+        for (int row = 0; row < size; row++) {
+            if (codes[row] == code) {
+                matchCount++;
+            }
+        }
+        int[] rows = new int[matchCount];
+        int index = 0;
+        for (int row = 0; row < size && index < matchCount; row++) {
+            if (codes[row] == code) {
+                rows[index++] = row;
+            }
+        }
+        return rows;
+    }
+
+    private Map<String, Integer> countByCode(int[] codes, StringDictionary dictionary) {
+        int[] counts = new int[dictionary.size()];
+        for (int row = 0; row < size; row++) {
+            int code = codes[row];
+            if (code >= 0) {
+                counts[code]++;
+            }
+        }
+
+        Map<String, Integer> countsByValue = new LinkedHashMap<>();
+        for (int code = 0; code < counts.length; code++) {
+            if (counts[code] > 0) {
+                countsByValue.put(dictionary.decode(code), counts[code]);
+            }
+        }
+        return countsByValue;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Запис " + row + " поза межами сховища розміром " + size);
+        }
+    }
+
+    /**
+     * Словник, що призначає кожному різному рядку номер за порядком першої появи.
+     * Номери не звільняються після видалення записів.
+     */
+    private static final class StringDictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = values.size();
+                codes.put(value, code);
+                values.add(value);
+            }
+            return code;
+        }
+
+        /**
+         * Повертає номер рядка або -1, якщо його немає в словнику.
+         */
+        int codeOf(String value) {
+            Integer code = codes.get(value);
+            return code != null ? code : -1;
+        }
+
+        String decode(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+}
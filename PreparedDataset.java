@@ -0,0 +1,54 @@
+/**
+ * Клас PreparedDataset містить дані, підготовлені один раз на запуск і спільні для всіх обробників.
+ *
+ * <p>Зберігає колонку дат у порядку завантаження та її впорядковану копію.
+ * Обидві колонки незмінні, тому обробники можуть читати їх одночасно,
+ * а вихідний порядок залишається доступним для операцій, яким він потрібен.</p>
+ */
+public final class PreparedDataset {
+    private final DateColumn loadOrderColumn;
+    private final DateColumn sortedColumn;
+
+    private PreparedDataset(DateColumn loadOrderColumn, DateColumn sortedColumn) {
+        this.loadOrderColumn = loadOrderColumn;
+        this.sortedColumn = sortedColumn;
+    }
+
+    /**
+     * Готує набір даних: упорядковує копію колонки, якщо вона ще не впорядкована,
+     * і будує пошуковий індекс впорядкованої колонки.
+     *
+     * @param loadOrderColumn Колонка дат у порядку завантаження
+     * @return Підготовлений набір даних
+     */
+    public static PreparedDataset prepare(DateColumn loadOrderColumn) {
+        DateColumn sortedColumn = loadOrderColumn.sorted();
+        sortedColumn.searchIndex();
+        return new PreparedDataset(loadOrderColumn, sortedColumn);
+    }
+
+    /**
+     * Повертає колонку дат у порядку завантаження.
+     */
+    public DateColumn getLoadOrderColumn() {
+        return loadOrderColumn;
+    }
+
+    /**
+     * Повертає впорядковану за зростанням колонку дат.
+     */
+    public DateColumn getSortedColumn() {
+        return sortedColumn;
+    }
+
+    /**
+     * Повертає true, якщо дані були впорядковані вже під час завантаження і сортування не знадобилося.
+     */
+    public boolean isAlreadySorted() {
+        return loadOrderColumn == sortedColumn;
+    }
+
+    public int size() {
+        return loadOrderColumn.size();
+    }
+}
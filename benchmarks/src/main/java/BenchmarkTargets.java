@@ -0,0 +1,305 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import bench.Operation;
+import bench.OperationFactory;
+
+/**
+ * Клас BenchmarkTargets надає бенчмаркам з пакета bench доступ до обробників у пакеті за замовчуванням.
+ *
+ * <p>Результати операцій виводяться в порожній потік, тому вимірюється сама операція,
+ * а не запис на консоль. Операції, що будують структуру даних, повертають її бенчмарку,
+ * щоб JIT-компілятор не відкинув побудову як мертвий код.</p>
+ */
+public class BenchmarkTargets implements OperationFactory {
+    private static final PrintStream NULL_OUT = new PrintStream(OutputStream.nullOutputStream());
+
+    @Override
+    public Operation dateOperation(String operationName, int[] epochDays, int searchEpochDay) {
+        LocalDate valueToSearch = LocalDate.ofEpochDay(searchEpochDay);
+        PreparedDataset dataset = PreparedDataset.prepare(DateColumn.fromEpochDays(epochDays.clone()));
+
+        Supplier<BasicDataOperationUsingList> listProcessor =
+                () -> new BasicDataOperationUsingList(valueToSearch, dataset, NULL_OUT);
+        Supplier<BasicDataOperationUsingQueue> queueProcessor =
+                () -> new BasicDataOperationUsingQueue(valueToSearch, dataset, NULL_OUT);
+        Supplier<BasicDataOperationUsingSet> setProcessor =
+                () -> new BasicDataOperationUsingSet(valueToSearch, dataset, NULL_OUT);
+
+        switch (operationName) {
+            case "findInList": {
+                // Пошук визначений лише у впорядкованому списку
+                BasicDataOperationUsingList processor = listProcessor.get();
+                processor.sortList();
+                return sideEffect(processor::findInList);
+            }
+            case "locateMinMaxInList":
+                return sideEffect(listProcessor.get()::locateMinMaxInList);
+            case "sortList":
+                return resettable(listProcessor, BasicDataOperationUsingList::sortList);
+            case "findInArray": {
+                BasicDataOperationUsingList processor = listProcessor.get();
+                processor.performArraySorting();
+                return sideEffect(processor::findInArray);
+            }
+            case "locateMinMaxInArray":
+                return sideEffect(listProcessor.get()::locateMinMaxInArray);
+            case "findInQueue":
+                return sideEffect(queueProcessor.get()::findInQueue);
+            case "locateMinMaxInQueue":
+                return sideEffect(queueProcessor.get()::locateMinMaxInQueue);
+            case "performQueueOperations":
+                return resettable(queueProcessor, BasicDataOperationUsingQueue::performQueueOperations);
+            case "runProducerConsumerPipeline":
+                return sideEffect(queueProcessor.get()::runProducerConsumerPipeline);
+            case "cancelInQueue":
+                return resettable(queueProcessor, BasicDataOperationUsingQueue::cancelInQueue);
+            case "findInSet":
+                return sideEffect(setProcessor.get()::findInSet);
+            case "locateMinMaxInSet":
+                return sideEffect(setProcessor.get()::locateMinMaxInSet);
+            case "analyzeArrayAndSet":
+                return sideEffect(setProcessor.get()::analyzeArrayAndSet);
+            case "prepareDataset":
+                return () -> PreparedDataset.prepare(DateColumn.fromEpochDays(epochDays));
+            default:
+                throw new IllegalArgumentException("Невідома операція з датами: " + operationName);
+        }
+    }
+
+    @Override
+    public Operation mapOperation(String operationName, String[][] petRows) {
+        Hashtable<BasicDataOperationUsingMap.Pet, String> sourceHashtable = new Hashtable<>();
+        for (String[] petRow : petRows) {
+            sourceHashtable.put(BasicDataOperationUsingMap.Pet.of(petRow[0], petRow[1]), petRow[2]);
+        }
+        TreeMap<BasicDataOperationUsingMap.Pet, String> sourceTreeMap = new TreeMap<>(sourceHashtable);
+        List<Map.Entry<BasicDataOperationUsingMap.Pet, String>> sortedEntries = new ArrayList<>(sourceTreeMap.entrySet());
+
+        Supplier<BasicDataOperationUsingMap> mapProcessor = () -> new BasicDataOperationUsingMap(
+                new Hashtable<>(sourceHashtable), new TreeMap<>(sourceTreeMap), NULL_OUT);
+
+        switch (operationName) {
+            case "findByKeyInHashtable":
+                return sideEffect(mapProcessor.get()::findByKeyInHashtable);
+            case "findByValueInHashtable":
+                return sideEffect(mapProcessor.get()::findByValueInHashtable);
+            case "printHashtable":
+                return sideEffect(mapProcessor.get()::printHashtable);
+            case "sortHashtable":
+                return sideEffect(mapProcessor.get()::sortHashtable);
+            case "printSortedHashtable": {
+                BasicDataOperationUsingMap processor = mapProcessor.get();
+                processor.sortHashtable();
+                return sideEffect(processor::printHashtable);
+            }
+            case "addEntryToHashtable":
+                return sideEffect(mapProcessor.get()::addEntryToHashtable);
+            case "removeByKeyFromHashtable":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByKeyFromHashtable);
+            case "removeByValueFromHashtable":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByValueFromHashtable);
+            case "findByKeyInTreeMap":
+                return sideEffect(mapProcessor.get()::findByKeyInTreeMap);
+            case "findByValueInTreeMap":
+                return sideEffect(mapProcessor.get()::findByValueInTreeMap);
+            case "printTreeMap":
+                return sideEffect(mapProcessor.get()::printTreeMap);
+            case "addEntryToTreeMap":
+                return sideEffect(mapProcessor.get()::addEntryToTreeMap);
+            case "removeByKeyFromTreeMap":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByKeyFromTreeMap);
+            case "removeByValueFromTreeMap":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByValueFromTreeMap);
+            case "removeByPredicateFromHashtable":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByPredicateFromHashtable);
+            case "removeByPredicateFromTreeMap":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByPredicateFromTreeMap);
+            case "loadPetEntriesFromFile": {
+                String petDataFile = writePetDataFile(petRows);
+                return () -> DataFileHandler.loadPetEntriesFromFileParallel(petDataFile);
+            }
+            case "buildHashtable":
+                return () -> BasicDataOperationUsingMap.buildHashtable(sortedEntries);
+            case "buildSortedTreeMap":
+                return () -> BasicDataOperationUsingMap.buildSortedTreeMap(sortedEntries.stream());
+            case "putEachIntoTreeMap":
+                return () -> {
+                    TreeMap<BasicDataOperationUsingMap.Pet, String> treeMap = new TreeMap<>();
+                    for (Map.Entry<BasicDataOperationUsingMap.Pet, String> entry : sortedEntries) {
+                        treeMap.put(entry.getKey(), entry.getValue());
+                    }
+                    return treeMap;
+                };
+            case "findByKeyInRegistry":
+                return sideEffect(mapProcessor.get()::findByKeyInRegistry);
+            case "findByValueInRegistry":
+                return sideEffect(mapProcessor.get()::findByValueInRegistry);
+            case "addEntryToRegistry":
+                return sideEffect(mapProcessor.get()::addEntryToRegistry);
+            case "removeByKeyFromRegistry":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByKeyFromRegistry);
+            case "removeByValueFromRegistry":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByValueFromRegistry);
+            case "findByKeyInIndex":
+                return sideEffect(mapProcessor.get()::findByKeyInIndex);
+            case "findByNicknamePrefixInIndex":
+                return sideEffect(mapProcessor.get()::findByNicknamePrefixInIndex);
+            case "findSpeciesByNicknameInIndex":
+                return sideEffect(mapProcessor.get()::findSpeciesByNicknameInIndex);
+            case "addEntryToIndex":
+                return sideEffect(mapProcessor.get()::addEntryToIndex);
+            case "removeByKeyFromIndex":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByKeyFromIndex);
+            case "findByValueInColumnStore":
+                return sideEffect(mapProcessor.get()::findByValueInColumnStore);
+            case "groupByOwnerInColumnStore":
+                return sideEffect(mapProcessor.get()::groupByOwnerInColumnStore);
+            case "groupBySpeciesInColumnStore":
+                return sideEffect(mapProcessor.get()::groupBySpeciesInColumnStore);
+            case "removeByValueFromColumnStore":
+                return resettable(mapProcessor, BasicDataOperationUsingMap::removeByValueFromColumnStore);
+            default:
+                throw new IllegalArgumentException("Невідома операція з Map: " + operationName);
+        }
+    }
+
+    @Override
+    public Operation registryWorkload(String registryName, String[][] petRows, int readPercent) {
+        BasicDataOperationUsingMap.Pet[] pets = new BasicDataOperationUsingMap.Pet[petRows.length];
+        Hashtable<BasicDataOperationUsingMap.Pet, String> sourceHashtable = new Hashtable<>();
+        for (int i = 0; i < petRows.length; i++) {
+            pets[i] = BasicDataOperationUsingMap.Pet.of(petRows[i][0], petRows[i][1]);
+            sourceHashtable.put(pets[i], petRows[i][2]);
+        }
+        String[] owners = Arrays.stream(petRows).map(petRow -> petRow[2]).distinct().toArray(String[]::new);
+
+        switch (registryName) {
+            case "hashtable":
+                return hashtableWorkload(sourceHashtable, pets, owners, readPercent);
+            case "concurrent":
+                return concurrentRegistryWorkload(new ConcurrentPetRegistry(sourceHashtable), pets, owners, readPercent);
+            default:
+                throw new IllegalArgumentException("Невідомий реєстр: " + registryName);
+        }
+    }
+
+    /**
+     * Поточний шлях обробника Map: Hashtable з індексом власників, узгодженим з таблицею
+     * під її власним монітором.
+     */
+    private static Operation hashtableWorkload(Hashtable<BasicDataOperationUsingMap.Pet, String> hashtable,
+            BasicDataOperationUsingMap.Pet[] pets, String[] owners, int readPercent) {
+        BasicDataOperationUsingMap.OwnerIndex ownerIndex = new BasicDataOperationUsingMap.OwnerIndex(hashtable);
+        return () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            BasicDataOperationUsingMap.Pet pet = pets[random.nextInt(pets.length)];
+            int choice = random.nextInt(100);
+            if (choice < readPercent) {
+                return hashtable.get(pet);
+            } else if ((choice & 1) == 0) {
+                String owner = owners[random.nextInt(owners.length)];
+                synchronized (hashtable) {
+                    String previousOwner = hashtable.put(pet, owner);
+                    ownerIndex.onPut(pet, previousOwner, owner);
+                    return previousOwner;
+                }
+            } else {
+                String removedOwner;
+                synchronized (hashtable) {
+                    removedOwner = hashtable.remove(pet);
+                    ownerIndex.onRemove(pet, removedOwner);
+                }
+                if (removedOwner != null) {
+                    synchronized (hashtable) {
+                        if (hashtable.putIfAbsent(pet, removedOwner) == null) {
+                            ownerIndex.onPut(pet, null, removedOwner);
+                        }
+                    }
+                }
+                return removedOwner;
+            }
+        };
+    }
+
+    private static Operation concurrentRegistryWorkload(ConcurrentPetRegistry registry,
+            BasicDataOperationUsingMap.Pet[] pets, String[] owners, int readPercent) {
+        return () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            BasicDataOperationUsingMap.Pet pet = pets[random.nextInt(pets.length)];
+            int choice = random.nextInt(100);
+            if (choice < readPercent) {
+                return registry.get(pet);
+            } else if ((choice & 1) == 0) {
+                return registry.put(pet, owners[random.nextInt(owners.length)]);
+            } else {
+                String removedOwner = registry.remove(pet);
+                if (removedOwner != null) {
+                    registry.putIfAbsent(pet, removedOwner);
+                }
+                return removedOwner;
+            }
+        };
+    }
+
+    /**
+     * Записує рядки тварин у тимчасовий файл формату list/Pet.data, який видаляється після завершення JVM.
+     */
+    private static String writePetDataFile(String[][] petRows) {
+        try {
+            Path petDataFile = Files.createTempFile("Pet", ".data");
+            petDataFile.toFile().deleteOnExit();
+            List<String> lines = Arrays.stream(petRows).map(petRow -> String.join(";", petRow)).toList();
+            Files.write(petDataFile, lines, StandardCharsets.UTF_8);
+            return petDataFile.toString();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+
+    /**
+     * Створює операцію з методу обробника, що нічого не повертає. Обробник виводить результат
+     * у NULL_OUT і записує метрику, тому компілятор не може відкинути його роботу.
+     */
+    private static Operation sideEffect(Runnable action) {
+        return () -> {
+            action.run();
+            return null;
+        };
+    }
+
+    /**
+     * Створює операцію, яка під час reset() замінює обробник новим, створеним з тих самих даних.
+     */
+    private static <T> Operation resettable(Supplier<T> processorFactory, Consumer<T> action) {
+        return new Operation() {
+            private T processor = processorFactory.get();
+
+            @Override
+            public Object run() {
+                action.accept(processor);
+                return null;
+            }
+
+            @Override
+            public void reset() {
+                processor = processorFactory.get();
+            }
+        };
+    }
+}
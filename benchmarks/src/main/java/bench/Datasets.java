@@ -0,0 +1,119 @@
+package bench;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Генерує відтворювані набори даних для бенчмарків.
+ */
+public final class Datasets {
+    private static final long SEED = 20250313L;
+
+    private static final int FIRST_EPOCH_DAY = (int) LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final int DAY_RANGE = 30 * 366;
+    private static final int DUPLICATE_DAY_COUNT = 16;
+
+    // Початкові записи з BasicDataOperationUsingMap.main, щоб ключ і власник для пошуку були в наборі
+    private static final String[][] BASE_PETS = {
+            {"Тум", "Сова вухата", "Андрій"},
+            {"Луна", "Полярна сова", "Ірина"},
+            {"Барсик", "Сова сіра", "Олена"},
+            {"Боні", "Сипуха", "Олена"},
+            {"Тайсон", "Сова болотяна", "Ірина"},
+            {"Барсик", "Сичик-горобець", "Андрій"},
+            {"Ґуфі", "Сова болотяна", "Тимофій"},
+            {"Боні", "Сова яструбина", "Поліна"},
+            {"Муся", "Сова білолиця", "Стефанія"},
+            {"Чіпо", "Сичик-хатник", "Ярослав"},
+    };
+    private static final String[] NICKNAMES = {"Тум", "Луна", "Барсик", "Боні", "Тайсон", "Ґуфі", "Муся", "Чіпо"};
+    private static final String[] SPECIES = {"Сова вухата", "Полярна сова", "Сова сіра", "Сипуха",
+            "Сова болотяна", "Сичик-горобець", "Сова яструбина", "Сова білолиця", "Сичик-хатник"};
+    private static final String[] OWNERS = {"Андрій", "Ірина", "Олена", "Тимофій", "Поліна", "Стефанія", "Ярослав"};
+
+    private Datasets() {
+    }
+
+    /**
+     * Генерує дати як дні від епохи в межах 2000-2030 років.
+     *
+     * @param size Кількість дат
+     * @param order Порядок дат
+     * @return Масив днів від епохи
+     */
+    public static int[] epochDays(int size, InputOrder order) {
+        Random random = new Random(SEED);
+        int[] epochDays = new int[size];
+        int dayRange = order == InputOrder.DUPLICATES ? DUPLICATE_DAY_COUNT : DAY_RANGE;
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = FIRST_EPOCH_DAY + random.nextInt(dayRange);
+        }
+
+        if (order == InputOrder.SORTED || order == InputOrder.REVERSED) {
+            Arrays.sort(epochDays);
+        }
+        if (order == InputOrder.REVERSED) {
+            for (int left = 0, right = size - 1; left < right; left++, right--) {
+                int swap = epochDays[left];
+                epochDays[left] = epochDays[right];
+                epochDays[right] = swap;
+            }
+        }
+        return epochDays;
+    }
+
+    /**
+     * Генерує записи тварин {кличка, вид, власник} з унікальними парами кличка-вид.
+     * Для SORTED і REVERSED записи впорядковані так само, як ключі Pet (кличка за зростанням,
+     * вид за спаданням). Для DUPLICATES усі тварини належать кільком власникам.
+     *
+     * @param size Кількість записів (не менше 10)
+     * @param order Порядок записів
+     * @return Масив записів
+     */
+    public static String[][] petRows(int size, InputOrder order) {
+        Random random = new Random(SEED);
+        String[][] petRows = new String[Math.max(size, BASE_PETS.length)][];
+        for (int i = 0; i < petRows.length; i++) {
+            if (i < BASE_PETS.length) {
+                petRows[i] = BASE_PETS[i].clone();
+                continue;
+            }
+            String owner = OWNERS[random.nextInt(OWNERS.length)];
+            if (order != InputOrder.DUPLICATES) {
+                owner = owner + " " + random.nextInt(Math.max(1, size / 4));
+            }
+            petRows[i] = new String[] {
+                    NICKNAMES[i % NICKNAMES.length] + " " + i,
+                    SPECIES[random.nextInt(SPECIES.length)],
+                    owner
+            };
+        }
+
+        Comparator<String[]> petOrder = Comparator.<String[], String>comparing(row -> row[0])
+                .thenComparing(row -> row[1], Comparator.reverseOrder());
+        switch (order) {
+            case SORTED:
+                Arrays.sort(petRows, petOrder);
+                break;
+            case REVERSED:
+                Arrays.sort(petRows, petOrder.reversed());
+                break;
+            default:
+                shuffle(petRows, random);
+                break;
+        }
+        return petRows;
+    }
+
+    private static void shuffle(Object[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Object swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+}
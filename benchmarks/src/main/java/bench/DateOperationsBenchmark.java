@@ -0,0 +1,55 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює операції обробників List, Queue та Set, які не змінюють своїх даних.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class DateOperationsBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    InputOrder order;
+
+    @Param({
+            "findInList", "locateMinMaxInList",
+            "findInArray", "locateMinMaxInArray",
+            "findInQueue", "locateMinMaxInQueue", "runProducerConsumerPipeline",
+            "findInSet", "locateMinMaxInSet", "analyzeArrayAndSet",
+            "prepareDataset"
+    })
+    String operation;
+
+    private Operation target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int[] epochDays = Datasets.epochDays(size, order);
+        target = OperationFactory.load().dateOperation(operation, epochDays, epochDays[size / 2]);
+    }
+
+    @Benchmark
+    public Object run() {
+        return target.run();
+    }
+}
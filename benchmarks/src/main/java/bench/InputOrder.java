@@ -0,0 +1,15 @@
+package bench;
+
+/**
+ * Порядок вхідних даних бенчмарку.
+ */
+public enum InputOrder {
+    /** Випадковий порядок. */
+    RANDOM,
+    /** Упорядковані за зростанням. */
+    SORTED,
+    /** Упорядковані за спаданням. */
+    REVERSED,
+    /** Випадковий порядок з невеликою кількістю різних значень. */
+    DUPLICATES
+}
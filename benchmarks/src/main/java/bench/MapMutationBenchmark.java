@@ -0,0 +1,60 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює видалення з колекцій обробника Map. Кожна ітерація - один виклик на свіжих копіях колекцій,
+ * які створюються поза вимірюванням.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 30)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class MapMutationBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    InputOrder order;
+
+    @Param({
+            "removeByKeyFromHashtable", "removeByValueFromHashtable",
+            "removeByKeyFromTreeMap", "removeByValueFromTreeMap",
+            "removeByPredicateFromHashtable", "removeByPredicateFromTreeMap",
+            "removeByKeyFromRegistry", "removeByValueFromRegistry",
+            "removeByKeyFromIndex", "removeByValueFromColumnStore"
+    })
+    String operation;
+
+    private Operation target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = OperationFactory.load().mapOperation(operation, Datasets.petRows(size, order));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetTarget() {
+        target.reset();
+    }
+
+    @Benchmark
+    public Object run() {
+        return target.run();
+    }
+}
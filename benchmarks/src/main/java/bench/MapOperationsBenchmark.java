@@ -0,0 +1,57 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює операції обробника Map, після яких вміст колекцій не змінюється
+ * (повторне додавання того самого запису не змінює розмір).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class MapOperationsBenchmark {
+    @Param({"1000", "100000", "1000000", "10000000"})
+    int size;
+
+    @Param({"RANDOM", "SORTED", "REVERSED", "DUPLICATES"})
+    InputOrder order;
+
+    @Param({
+            "findByKeyInHashtable", "findByValueInHashtable", "printHashtable", "sortHashtable", "printSortedHashtable",
+            "addEntryToHashtable",
+            "findByKeyInTreeMap", "findByValueInTreeMap", "printTreeMap", "addEntryToTreeMap",
+            "findByKeyInRegistry", "findByValueInRegistry", "addEntryToRegistry",
+            "findByKeyInIndex", "findByNicknamePrefixInIndex", "findSpeciesByNicknameInIndex", "addEntryToIndex",
+            "findByValueInColumnStore", "groupByOwnerInColumnStore", "groupBySpeciesInColumnStore",
+            "loadPetEntriesFromFile", "buildHashtable", "buildSortedTreeMap", "putEachIntoTreeMap"
+    })
+    String operation;
+
+    private Operation target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = OperationFactory.load().mapOperation(operation, Datasets.petRows(size, order));
+    }
+
+    @Benchmark
+    public Object run() {
+        return target.run();
+    }
+}
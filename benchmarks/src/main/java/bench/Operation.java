@@ -0,0 +1,21 @@
+package bench;
+
+/**
+ * Операція, тривалість якої вимірює бенчмарк.
+ *
+ * <p>Операції, що змінюють свої дані, повертають їх до початкового стану в {@link #reset()},
+ * який бенчмарк викликає поза вимірюванням.</p>
+ */
+@FunctionalInterface
+public interface Operation {
+    /**
+     * Виконує операцію.
+     *
+     * @return Побудована чи знайдена операцією структура, яку бенчмарк повертає JMH, щоб компілятор
+     *         не відкинув її обчислення; null для операцій, результат яких видно лише з побічних ефектів
+     */
+    Object run();
+
+    default void reset() {
+    }
+}
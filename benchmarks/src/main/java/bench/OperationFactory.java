@@ -0,0 +1,56 @@
+package bench;
+
+/**
+ * Створює операції обробників даних для бенчмарків.
+ *
+ * <p>Класи, що вимірюються, знаходяться в пакеті за замовчуванням, а JMH не дозволяє
+ * бенчмарки в ньому, тому з пакета bench вони доступні лише через цей інтерфейс.
+ * Його реалізує клас BenchmarkTargets у пакеті за замовчуванням, який завантажується за іменем
+ * один раз під час підготовки бенчмарку.</p>
+ */
+public interface OperationFactory {
+    String IMPLEMENTATION_CLASS = "BenchmarkTargets";
+
+    /**
+     * Створює операцію обробників List, Queue або Set над вказаними датами.
+     *
+     * @param operationName Назва методу обробника (наприклад, "findInList")
+     * @param epochDays Дати як дні від епохи у порядку завантаження
+     * @param searchEpochDay Дата для пошуку як день від епохи
+     * @return Операція
+     */
+    Operation dateOperation(String operationName, int[] epochDays, int searchEpochDay);
+
+    /**
+     * Створює операцію обробника Map над вказаними записами.
+     *
+     * @param operationName Назва методу обробника (наприклад, "findByValueInHashtable")
+     * @param petRows Записи у вигляді {кличка, вид, власник}
+     * @return Операція
+     */
+    Operation mapOperation(String operationName, String[][] petRows);
+
+    /**
+     * Створює змішане навантаження на реєстр тварин, яке можуть одночасно виконувати багато потоків.
+     * Кожен виклик run() виконує одну випадкову операцію: читання власника із заданою ймовірністю,
+     * інакше - зміну власника або видалення з повторним додаванням, тому розмір реєстру не змінюється.
+     *
+     * @param registryName "hashtable" (Hashtable з індексом власників під монітором таблиці)
+     *                     або "concurrent" (ConcurrentPetRegistry)
+     * @param petRows Записи у вигляді {кличка, вид, власник}
+     * @param readPercent Відсоток операцій читання
+     * @return Потокобезпечна операція
+     */
+    Operation registryWorkload(String registryName, String[][] petRows, int readPercent);
+
+    /**
+     * Завантажує реалізацію з пакета за замовчуванням.
+     */
+    static OperationFactory load() {
+        try {
+            return (OperationFactory) Class.forName(IMPLEMENTATION_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Не вдалося завантажити " + IMPLEMENTATION_CLASS, e);
+        }
+    }
+}
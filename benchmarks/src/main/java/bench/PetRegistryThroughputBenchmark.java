@@ -0,0 +1,51 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Порівнює пропускну здатність Hashtable та ConcurrentPetRegistry, коли реєстр
+ * одночасно використовують багато потоків. Кількість потоків можна змінити параметром -t.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Threads(16)
+@State(Scope.Benchmark)
+public class PetRegistryThroughputBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param({"50", "90", "99"})
+    int readPercent;
+
+    @Param({"hashtable", "concurrent"})
+    String registry;
+
+    private Operation target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        target = OperationFactory.load().registryWorkload(registry, Datasets.petRows(size, InputOrder.RANDOM), readPercent);
+    }
+
+    @Benchmark
+    public Object run() {
+        return target.run();
+    }
+}